@@ -0,0 +1,41 @@
+package com.golfclub.club;
+
+import com.golfclub.member.MemberRepository;
+import com.golfclub.tournament.TournamentRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Rows saved before clubs existed have an empty or NULL club_id, which hides them from
+// every club. Assigns them once at startup to the default club, before any other
+// startup task reads those rows.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ClubBackfill implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ClubBackfill.class);
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int members = memberRepository.assignUnownedMembers(ClubContext.DEFAULT_CLUB_ID);
+        int tournaments = tournamentRepository.assignUnownedTournaments(ClubContext.DEFAULT_CLUB_ID);
+        int registrations = tournamentRepository.assignUnownedRegistrations(ClubContext.DEFAULT_CLUB_ID);
+        if (members + tournaments + registrations > 0) {
+            log.info("Assigned {} members, {} tournaments and {} registrations to the {} club",
+                    members, tournaments, registrations, ClubContext.DEFAULT_CLUB_ID);
+        }
+    }
+}
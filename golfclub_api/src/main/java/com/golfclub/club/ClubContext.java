@@ -0,0 +1,24 @@
+package com.golfclub.club;
+
+// Holds the club (tenant) that the current request is acting on //
+public final class ClubContext {
+
+    public static final String DEFAULT_CLUB_ID = "default";
+
+    private static final ThreadLocal<String> CURRENT_CLUB = new ThreadLocal<>();
+
+    private ClubContext() {}
+
+    public static String getClubId() {
+        String clubId = CURRENT_CLUB.get();
+        return clubId != null ? clubId : DEFAULT_CLUB_ID;
+    }
+
+    public static void setClubId(String clubId) {
+        CURRENT_CLUB.set(clubId);
+    }
+
+    public static void clear() {
+        CURRENT_CLUB.remove();
+    }
+}
@@ -0,0 +1,42 @@
+package com.golfclub.club;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Resolves the club for each request from the X-Club-Id header //
+@Component
+public class ClubContextFilter extends OncePerRequestFilter {
+
+    public static final String CLUB_HEADER = "X-Club-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clubId = request.getHeader(CLUB_HEADER);
+
+        if (clubId != null && !clubId.trim().isEmpty()) {
+            clubId = clubId.trim();
+            if (!isValidClubId(clubId)) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid " + CLUB_HEADER + " header");
+                return;
+            }
+            ClubContext.setClubId(clubId);
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ClubContext.clear();
+        }
+    }
+
+    private boolean isValidClubId(String clubId) {
+        return clubId.matches("^[A-Za-z0-9_-]{1,64}$");
+    }
+}
@@ -0,0 +1,15 @@
+package com.golfclub.journal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// The requested point in time is older than the journal, so there is nothing to answer from //
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class HistoryNotRecordedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public HistoryNotRecordedException(String message) {
+        super(message);
+    }
+}
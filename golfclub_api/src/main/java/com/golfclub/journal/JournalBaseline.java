@@ -0,0 +1,87 @@
+package com.golfclub.journal;
+
+import com.golfclub.member.Member;
+import com.golfclub.member.MemberRepository;
+import com.golfclub.tournament.TournamentParticipant;
+import com.golfclub.tournament.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+// Members and registrations that existed before the journal have no entries until they
+// change. Records a baseline snapshot for each of them, once per journal directory, so
+// point-in-time queries cover them from the baseline onwards.
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class JournalBaseline implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalBaseline.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    @Autowired
+    private MembershipJournal membershipJournal;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException {
+        if (!membershipJournal.isBaselineRecorded()) {
+            recordBaseline();
+            membershipJournal.markBaselineRecorded();
+        }
+    }
+
+    // Only rows without a journal entry get one, so running it again records nothing new //
+    void recordBaseline() throws InterruptedException {
+        membershipJournal.flush();
+        int members = 0;
+        int registrations = 0;
+
+        List<Member> memberPage;
+        int page = 0;
+        do {
+            memberPage = memberRepository.findAll(PageRequest.of(page++, PAGE_SIZE, Sort.by("id"))).getContent();
+            for (Member member : memberPage) {
+                if (!membershipJournal.hasMemberSnapshot(member.getClubId(), member.getId())) {
+                    membershipJournal.record(JournalEntry.forMember(JournalEntryType.MEMBER_BASELINE, member));
+                    members++;
+                }
+            }
+        } while (memberPage.size() == PAGE_SIZE);
+
+        List<TournamentParticipant> registrationPage;
+        page = 0;
+        do {
+            registrationPage = tournamentRepository.findRegistrations(PageRequest.of(page++, PAGE_SIZE));
+            for (TournamentParticipant registration : registrationPage) {
+                Long tournamentId = registration.getId().getTournamentId();
+                Long memberId = registration.getId().getMemberId();
+                if (!membershipJournal.hasRegistration(registration.getClubId(), tournamentId, memberId)) {
+                    membershipJournal.record(JournalEntry.forRegistration(JournalEntryType.REGISTRATION_BASELINE,
+                            registration.getClubId(), tournamentId, memberId));
+                    registrations++;
+                }
+            }
+        } while (registrationPage.size() == PAGE_SIZE);
+
+        membershipJournal.flush();
+        if (members + registrations > 0) {
+            log.info("Recorded baseline journal entries for {} members and {} registrations", members, registrations);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.golfclub.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Compact binary encoding of journal entries //
+final class JournalCodec {
+
+    private static final long NO_VALUE = Long.MIN_VALUE;
+
+    private JournalCodec() {}
+
+    static byte[] encode(JournalEntry entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(entry.sequence());
+            out.writeLong(entry.recordedAt().toEpochMilli());
+            out.writeUTF(entry.type().name());
+            writeString(out, entry.clubId());
+            out.writeLong(entry.memberId() != null ? entry.memberId() : NO_VALUE);
+            out.writeLong(entry.tournamentId() != null ? entry.tournamentId() : NO_VALUE);
+            writeString(out, entry.name());
+            writeString(out, entry.address());
+            writeString(out, entry.email());
+            writeString(out, entry.phone());
+            out.writeLong(entry.startDate() != null ? entry.startDate().toEpochDay() : NO_VALUE);
+            out.writeLong(entry.durationMonths() != null ? entry.durationMonths() : NO_VALUE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static JournalEntry decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            long sequence = in.readLong();
+            Instant recordedAt = Instant.ofEpochMilli(in.readLong());
+            JournalEntryType type = JournalEntryType.valueOf(in.readUTF());
+            String clubId = readString(in);
+            long memberId = in.readLong();
+            long tournamentId = in.readLong();
+            String name = readString(in);
+            String address = readString(in);
+            String email = readString(in);
+            String phone = readString(in);
+            long startDate = in.readLong();
+            long durationMonths = in.readLong();
+
+            return new JournalEntry(sequence, recordedAt, type, clubId,
+                    memberId != NO_VALUE ? memberId : null,
+                    tournamentId != NO_VALUE ? tournamentId : null,
+                    name, address, email, phone,
+                    startDate != NO_VALUE ? LocalDate.ofEpochDay(startDate) : null,
+                    durationMonths != NO_VALUE ? (int) durationMonths : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.golfclub.journal;
+
+import com.golfclub.member.Member;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+// One immutable change to a member or a tournament registration.
+// Member entries carry a full snapshot of the member after the change.
+public record JournalEntry(
+        long sequence,
+        Instant recordedAt,
+        JournalEntryType type,
+        String clubId,
+        Long memberId,
+        Long tournamentId,
+        String name,
+        String address,
+        String email,
+        String phone,
+        LocalDate startDate,
+        Integer durationMonths) {
+
+    public static JournalEntry forMember(JournalEntryType type, Member member) {
+        return new JournalEntry(0, Instant.now(), type, member.getClubId(), member.getId(), null,
+                member.getName(), member.getAddress(), member.getEmail(), member.getPhone(),
+                member.getStartDate(), member.getDurationMonths());
+    }
+
+    public static JournalEntry forRegistration(JournalEntryType type, String clubId, Long tournamentId, Long memberId) {
+        return new JournalEntry(0, Instant.now(), type, clubId, memberId, tournamentId,
+                null, null, null, null, null, null);
+    }
+
+    JournalEntry withSequence(long sequence) {
+        return new JournalEntry(sequence, recordedAt, type, clubId, memberId, tournamentId,
+                name, address, email, phone, startDate, durationMonths);
+    }
+
+    boolean isMemberEntry() {
+        return tournamentId == null;
+    }
+
+    // True when both entries describe the same member state, ignoring when it was recorded //
+    boolean hasSameSnapshot(JournalEntry other) {
+        return other != null
+                && Objects.equals(memberId, other.memberId)
+                && Objects.equals(name, other.name)
+                && Objects.equals(address, other.address)
+                && Objects.equals(email, other.email)
+                && Objects.equals(phone, other.phone)
+                && Objects.equals(startDate, other.startDate)
+                && Objects.equals(durationMonths, other.durationMonths);
+    }
+}
@@ -0,0 +1,18 @@
+package com.golfclub.journal;
+
+public enum JournalEntryType {
+    MEMBER_CREATED,
+    MEMBER_UPDATED,
+    MEMBER_RENEWED,
+    MEMBER_DELETED,
+    // Snapshot of a member that existed before the journal did //
+    MEMBER_BASELINE,
+    REGISTRATION_ADDED,
+    REGISTRATION_REMOVED,
+    // Registration that existed before the journal did //
+    REGISTRATION_BASELINE;
+
+    boolean isRegistration() {
+        return this == REGISTRATION_ADDED || this == REGISTRATION_REMOVED || this == REGISTRATION_BASELINE;
+    }
+}
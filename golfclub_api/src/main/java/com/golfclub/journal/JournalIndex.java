@@ -0,0 +1,94 @@
+package com.golfclub.journal;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// In-memory index of where each member's and tournament's journal entries live, so
+// point-in-time queries read only the records they need instead of the whole history.
+class JournalIndex {
+
+    record Location(Path segment, long payloadOffset, int length) {}
+
+    record IndexedEntry(long sequence, long recordedAtMillis, JournalEntryType type, Long memberId, Location location) {
+
+        boolean isMemberEntry() {
+            return !type.isRegistration();
+        }
+    }
+
+    // clubId -> memberId -> member and registration entries of that member, in sequence order //
+    private final Map<String, Map<Long, List<IndexedEntry>>> entriesByMember = new HashMap<>();
+    // clubId -> tournamentId -> registration entries of that tournament, in sequence order //
+    private final Map<String, Map<Long, List<IndexedEntry>>> entriesByTournament = new HashMap<>();
+    private long earliestRecordedAtMillis = Long.MAX_VALUE;
+
+    synchronized void add(JournalEntry entry, Location location) {
+        IndexedEntry indexed = new IndexedEntry(entry.sequence(), entry.recordedAt().toEpochMilli(), entry.type(),
+                entry.memberId(), location);
+        earliestRecordedAtMillis = Math.min(earliestRecordedAtMillis, indexed.recordedAtMillis());
+        if (entry.memberId() != null) {
+            entriesByMember.computeIfAbsent(entry.clubId(), club -> new HashMap<>())
+                    .computeIfAbsent(entry.memberId(), member -> new ArrayList<>())
+                    .add(indexed);
+        }
+        if (entry.tournamentId() != null) {
+            entriesByTournament.computeIfAbsent(entry.clubId(), club -> new HashMap<>())
+                    .computeIfAbsent(entry.tournamentId(), tournament -> new ArrayList<>())
+                    .add(indexed);
+        }
+    }
+
+    synchronized List<IndexedEntry> memberEntries(String clubId, Long memberId) {
+        return List.copyOf(entriesByMember.getOrDefault(clubId, Map.of()).getOrDefault(memberId, List.of()));
+    }
+
+    synchronized boolean hasMemberSnapshot(String clubId, Long memberId) {
+        return entriesByMember.getOrDefault(clubId, Map.of()).getOrDefault(memberId, List.of()).stream()
+                .anyMatch(IndexedEntry::isMemberEntry);
+    }
+
+    synchronized boolean hasRegistration(String clubId, Long tournamentId, Long memberId) {
+        return entriesByTournament.getOrDefault(clubId, Map.of()).getOrDefault(tournamentId, List.of()).stream()
+                .anyMatch(entry -> memberId.equals(entry.memberId()));
+    }
+
+    // Recording time of the oldest entry, or -1 when nothing has been recorded yet //
+    synchronized long earliestRecordedAtMillis() {
+        return earliestRecordedAtMillis == Long.MAX_VALUE ? -1 : earliestRecordedAtMillis;
+    }
+
+    synchronized Map<Long, List<IndexedEntry>> clubMemberEntries(String clubId) {
+        Map<Long, List<IndexedEntry>> copy = new HashMap<>();
+        entriesByMember.getOrDefault(clubId, Map.of()).forEach((memberId, entries) -> copy.put(memberId, List.copyOf(entries)));
+        return copy;
+    }
+
+    synchronized List<IndexedEntry> tournamentEntries(String clubId, Long tournamentId) {
+        return List.copyOf(entriesByTournament.getOrDefault(clubId, Map.of()).getOrDefault(tournamentId, List.of()));
+    }
+
+    // Points entries of compacted segments at their new location, dropping ones compaction removed //
+    synchronized void relocate(Set<Path> compactedSegments, Map<Long, Location> newLocations) {
+        relocate(entriesByMember, compactedSegments, newLocations);
+        relocate(entriesByTournament, compactedSegments, newLocations);
+    }
+
+    private static void relocate(Map<String, Map<Long, List<IndexedEntry>>> index, Set<Path> compactedSegments,
+                                 Map<Long, Location> newLocations) {
+        for (Map<Long, List<IndexedEntry>> club : index.values()) {
+            for (List<IndexedEntry> entries : club.values()) {
+                entries.removeIf(entry -> compactedSegments.contains(entry.location().segment())
+                        && !newLocations.containsKey(entry.sequence()));
+                entries.replaceAll(entry -> compactedSegments.contains(entry.location().segment())
+                        ? new IndexedEntry(entry.sequence(), entry.recordedAtMillis(), entry.type(),
+                                entry.memberId(), newLocations.get(entry.sequence()))
+                        : entry);
+            }
+            club.values().removeIf(List::isEmpty);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.golfclub.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// A preallocated, memory-mapped journal file. Each record is [length][crc32][payload];
+// a zero length marks the end of the written part. The length is written last so a
+// record torn by a crash is never read back. Only the writer maps segments; readers
+// use plain FileChannel reads so no mappings are left behind by queries.
+class JournalSegment {
+
+    static final int RECORD_HEADER_BYTES = 8;
+
+    record Record(long payloadOffset, byte[] payload) {}
+
+    private final Path path;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    private JournalSegment(Path path, long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path path, long firstSequence, long sizeBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+            return new JournalSegment(path, firstSequence, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            // Leave nothing behind so the same segment can be created again on retry //
+            channel.close();
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    // Returns the payload offset, or -1 when the record does not fit (room is kept for the end marker) //
+    long append(byte[] payload) {
+        int position = buffer.position();
+        if (buffer.remaining() < RECORD_HEADER_BYTES + payload.length + Integer.BYTES) {
+            return -1;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.position(position + Integer.BYTES);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        buffer.putInt(position, payload.length);
+        return position + RECORD_HEADER_BYTES;
+    }
+
+    static long encodedSize(byte[] payload) {
+        return RECORD_HEADER_BYTES + payload.length;
+    }
+
+    boolean isEmpty() {
+        return buffer.position() == 0;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    // Drops the mapping reference so it can be released; it cannot be unmapped explicitly //
+    void close() throws IOException {
+        buffer.force();
+        buffer = null;
+        channel.close();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getFirstSequence() {
+        return firstSequence;
+    }
+
+    static List<Record> readRecords(Path path) throws IOException {
+        List<Record> records = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+
+            while (position + RECORD_HEADER_BYTES <= size) {
+                header.clear();
+                readFully(channel, header, position);
+                header.flip();
+                int length = header.getInt();
+                int expectedCrc = header.getInt();
+                if (length <= 0 || position + RECORD_HEADER_BYTES + length > size) {
+                    break;
+                }
+
+                byte[] payload = new byte[length];
+                readFully(channel, ByteBuffer.wrap(payload), position + RECORD_HEADER_BYTES);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+                records.add(new Record(position + RECORD_HEADER_BYTES, payload));
+                position += RECORD_HEADER_BYTES + length;
+            }
+        }
+        return records;
+    }
+
+    static byte[] readPayload(FileChannel channel, long offset, int length) throws IOException {
+        byte[] payload = new byte[length];
+        readFully(channel, ByteBuffer.wrap(payload), offset);
+        return payload;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of journal segment");
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.golfclub.journal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// The journal writer has stopped or is failing, so history reads would be incomplete //
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class JournalUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public JournalUnavailableException(String message) {
+        super(message);
+    }
+
+    public JournalUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
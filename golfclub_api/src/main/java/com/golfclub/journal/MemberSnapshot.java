@@ -0,0 +1,31 @@
+package com.golfclub.journal;
+
+import java.time.LocalDate;
+
+// State of a member as reconstructed from the journal at some point in time //
+public record MemberSnapshot(
+        Long memberId,
+        String name,
+        String address,
+        String email,
+        String phone,
+        LocalDate startDate,
+        Integer durationMonths) {
+
+    static MemberSnapshot from(JournalEntry entry) {
+        return new MemberSnapshot(entry.memberId(), entry.name(), entry.address(), entry.email(),
+                entry.phone(), entry.startDate(), entry.durationMonths());
+    }
+
+    public LocalDate getExpiryDate() {
+        if (startDate == null || durationMonths == null) {
+            return null;
+        }
+        return startDate.plusMonths(durationMonths);
+    }
+
+    public boolean isActiveOn(LocalDate date) {
+        LocalDate expiryDate = getExpiryDate();
+        return expiryDate != null && !date.isBefore(startDate) && !date.isAfter(expiryDate);
+    }
+}
@@ -0,0 +1,15 @@
+package com.golfclub.journal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// The journal has no live snapshot of the member at the requested time //
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class MemberSnapshotNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public MemberSnapshotNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,50 @@
+package com.golfclub.journal;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/audit")
+public class MembershipHistoryController {
+
+    @Autowired
+    private MembershipHistoryService membershipHistoryService;
+
+    @GetMapping("/members/{id}/history")
+    public List<JournalEntry> getMemberHistory(@PathVariable Long id) {
+        return membershipHistoryService.getMemberHistory(id);
+    }
+
+    @GetMapping("/members/{id}")
+    public MemberSnapshot getMemberAsOf(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        return membershipHistoryService.getMemberAsOf(id, at)
+                .orElseThrow(() -> new MemberSnapshotNotFoundException("Member " + id + " did not exist at " + at));
+    }
+
+    @GetMapping("/members/active")
+    public List<MemberSnapshot> getMembersActiveOn(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return membershipHistoryService.getMembersActiveOn(date);
+    }
+
+    @GetMapping("/tournaments/{id}/participants")
+    public Set<Long> getTournamentParticipantsAsOf(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        return membershipHistoryService.getTournamentParticipantsAsOf(id, at);
+    }
+
+    @PostMapping("/compact")
+    public MembershipJournal.CompactionResult compact() throws IOException {
+        return membershipHistoryService.compact();
+    }
+}
@@ -0,0 +1,88 @@
+package com.golfclub.journal;
+
+import com.golfclub.club.ClubContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Point-in-time queries answered from the membership journal's per-member index //
+@Service
+public class MembershipHistoryService {
+
+    @Autowired
+    private MembershipJournal membershipJournal;
+
+    public List<JournalEntry> getMemberHistory(Long memberId) {
+        if (memberId == null) {
+            throw new IllegalArgumentException("Member ID cannot be null");
+        }
+        return membershipJournal.readMemberHistory(ClubContext.getClubId(), memberId);
+    }
+
+    public Optional<MemberSnapshot> getMemberAsOf(Long memberId, Instant at) {
+        if (memberId == null || at == null) {
+            throw new IllegalArgumentException("Member ID and point in time are required");
+        }
+        requireHistoryAt(at);
+        return membershipJournal.readMemberSnapshotAsOf(ClubContext.getClubId(), memberId, at)
+                .filter(entry -> entry.type() != JournalEntryType.MEMBER_DELETED)
+                .map(MemberSnapshot::from);
+    }
+
+    // Members whose membership, as recorded by the end of that day, covered the date //
+    public List<MemberSnapshot> getMembersActiveOn(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date is required");
+        }
+        Instant endOfDay = date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        requireHistoryAt(endOfDay);
+        return membershipJournal.readMemberSnapshotsAsOf(ClubContext.getClubId(), endOfDay).stream()
+                .filter(entry -> entry.type() != JournalEntryType.MEMBER_DELETED)
+                .map(MemberSnapshot::from)
+                .filter(member -> member.isActiveOn(date))
+                .sorted(Comparator.comparing(MemberSnapshot::memberId))
+                .toList();
+    }
+
+    public Set<Long> getTournamentParticipantsAsOf(Long tournamentId, Instant at) {
+        if (tournamentId == null || at == null) {
+            throw new IllegalArgumentException("Tournament ID and point in time are required");
+        }
+        requireHistoryAt(at);
+        Set<Long> participants = new LinkedHashSet<>();
+
+        for (JournalEntry entry : membershipJournal.readTournamentRegistrations(ClubContext.getClubId(), tournamentId)) {
+            if (entry.recordedAt().isAfter(at)) {
+                continue;
+            }
+            if (entry.type() == JournalEntryType.REGISTRATION_ADDED || entry.type() == JournalEntryType.REGISTRATION_BASELINE) {
+                participants.add(entry.memberId());
+            } else if (entry.type() == JournalEntryType.REGISTRATION_REMOVED) {
+                participants.remove(entry.memberId());
+            }
+        }
+        return participants;
+    }
+
+    public MembershipJournal.CompactionResult compact() throws IOException {
+        return membershipJournal.compact();
+    }
+
+    // An empty answer before the journal started would wrongly read as "nobody" //
+    private void requireHistoryAt(Instant at) {
+        membershipJournal.getHistoryStart()
+                .filter(start -> at.isBefore(start))
+                .ifPresent(start -> {
+                    throw new HistoryNotRecordedException("Membership history starts at " + start);
+                });
+    }
+}
@@ -0,0 +1,595 @@
+package com.golfclub.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// Append-only journal of member and registration changes.
+// Callers only enqueue entries; a background writer appends them in batches to
+// memory-mapped segment files, so journaling stays off the request path.
+// Reads never take the writer lock: they go through the index and plain file reads,
+// and only exclude compaction, which is the one operation that removes files.
+@Component
+public class MembershipJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(MembershipJournal.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACTED_SUFFIX = ".compacted";
+    private static final String BASELINE_MARKER = "baseline.recorded";
+    private static final long FLUSH_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final String configuredDirectory;
+    private final long segmentSizeBytes;
+    private final int batchSize;
+
+    private final BlockingQueue<JournalEntry> pending = new LinkedBlockingQueue<>();
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final Object lock = new Object();
+    private final ReadWriteLock segmentFiles = new ReentrantReadWriteLock();
+    private final JournalIndex index = new JournalIndex();
+    // Compacted segments that could not be deleted yet; they are removed on the next start //
+    private final Set<Path> retiredSegments = ConcurrentHashMap.newKeySet();
+
+    // Guarded by lock //
+    private long writtenCount;
+    private long nextSequence = 1;
+    private JournalSegment activeSegment;
+
+    private Path directory;
+    private boolean temporaryDirectory;
+    private Thread writerThread;
+    private volatile boolean running;
+    // Last write failure, cleared once a batch is written again //
+    private volatile Throwable writeFailure;
+
+    public MembershipJournal(@Value("${golfclub.journal.directory:}") String directory,
+                             @Value("${golfclub.journal.segment-size-bytes:16777216}") long segmentSizeBytes,
+                             @Value("${golfclub.journal.batch-size:256}") int batchSize) {
+        if (segmentSizeBytes < 4096) {
+            throw new IllegalArgumentException("Journal segment size must be at least 4096 bytes");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Journal batch size must be positive");
+        }
+        this.configuredDirectory = directory;
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        // No directory configured means a throwaway journal, e.g. for tests //
+        temporaryDirectory = configuredDirectory == null || configuredDirectory.isBlank();
+        directory = temporaryDirectory
+                ? Files.createTempDirectory("golfclub-journal")
+                : Files.createDirectories(Path.of(configuredDirectory));
+
+        synchronized (lock) {
+            recover();
+            activeSegment = openSegment(nextSequence);
+        }
+
+        running = true;
+        writerThread = new Thread(this::writeLoop, "membership-journal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        try {
+            flush();
+        } catch (JournalUnavailableException e) {
+            log.warn("Stopping the membership journal with {} entries unwritten", pending.size(), e);
+        }
+        // The writer polls with a timeout, so it notices this without being interrupted //
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        synchronized (lock) {
+            closeActiveSegment();
+        }
+        if (temporaryDirectory) {
+            deleteDirectory();
+        }
+    }
+
+    // Records an entry once the surrounding transaction commits, or immediately if there is none //
+    public void record(JournalEntry entry) {
+        // Rejected up front; the writer could never fit it into a segment //
+        if (JournalSegment.encodedSize(JournalCodec.encode(entry)) + Integer.BYTES > segmentSizeBytes) {
+            throw new IllegalArgumentException("Journal entry is larger than the journal segment size");
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    private void enqueue(JournalEntry entry) {
+        enqueuedCount.incrementAndGet();
+        pending.add(entry);
+    }
+
+    // Blocks until everything enqueued so far has been written to a segment. Fails instead of
+    // waiting when the writer has died, is failing, or does not catch up within the timeout.
+    public void flush() throws InterruptedException {
+        long target = enqueuedCount.get();
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+        synchronized (lock) {
+            while (writtenCount < target) {
+                checkWriter();
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new JournalUnavailableException("Timed out waiting for the membership journal writer");
+                }
+                lock.wait(Math.min(remaining, 100));
+            }
+        }
+    }
+
+    public boolean isHealthy() {
+        return writerThread != null && writerThread.isAlive() && writeFailure == null;
+    }
+
+    private void checkWriter() {
+        if (writerThread == null || !writerThread.isAlive()) {
+            throw new JournalUnavailableException("The membership journal writer is not running");
+        }
+        Throwable failure = writeFailure;
+        if (failure != null) {
+            throw new JournalUnavailableException("The membership journal cannot write entries", failure);
+        }
+    }
+
+    // Reads every entry in sequence order, including ones still waiting to be written //
+    public List<JournalEntry> readAll() {
+        awaitWrites();
+        segmentFiles.readLock().lock();
+        try {
+            List<JournalEntry> entries = new ArrayList<>();
+            for (Path segment : listSegments()) {
+                entries.addAll(readSegment(segment));
+            }
+            return entries;
+        } finally {
+            segmentFiles.readLock().unlock();
+        }
+    }
+
+    // Member and registration entries of one member, in sequence order //
+    public List<JournalEntry> readMemberHistory(String clubId, Long memberId) {
+        awaitWrites();
+        segmentFiles.readLock().lock();
+        try {
+            return readEntries(index.memberEntries(clubId, memberId));
+        } finally {
+            segmentFiles.readLock().unlock();
+        }
+    }
+
+    // The member's latest snapshot recorded at or before the given time, deletions included //
+    public Optional<JournalEntry> readMemberSnapshotAsOf(String clubId, Long memberId, Instant at) {
+        awaitWrites();
+        segmentFiles.readLock().lock();
+        try {
+            return latestSnapshot(index.memberEntries(clubId, memberId), at)
+                    .map(entry -> readEntries(List.of(entry)).get(0));
+        } finally {
+            segmentFiles.readLock().unlock();
+        }
+    }
+
+    // Latest snapshot of every member of the club recorded at or before the given time //
+    public List<JournalEntry> readMemberSnapshotsAsOf(String clubId, Instant at) {
+        awaitWrites();
+        segmentFiles.readLock().lock();
+        try {
+            List<JournalIndex.IndexedEntry> latest = new ArrayList<>();
+            for (List<JournalIndex.IndexedEntry> entries : index.clubMemberEntries(clubId).values()) {
+                latestSnapshot(entries, at).ifPresent(latest::add);
+            }
+            return readEntries(latest);
+        } finally {
+            segmentFiles.readLock().unlock();
+        }
+    }
+
+    // Registration entries of one tournament, in sequence order //
+    public List<JournalEntry> readTournamentRegistrations(String clubId, Long tournamentId) {
+        awaitWrites();
+        segmentFiles.readLock().lock();
+        try {
+            return readEntries(index.tournamentEntries(clubId, tournamentId));
+        } finally {
+            segmentFiles.readLock().unlock();
+        }
+    }
+
+    // When history starts; nothing is known about the club before this //
+    public Optional<Instant> getHistoryStart() {
+        awaitWrites();
+        long earliest = index.earliestRecordedAtMillis();
+        return earliest < 0 ? Optional.empty() : Optional.of(Instant.ofEpochMilli(earliest));
+    }
+
+    boolean hasMemberSnapshot(String clubId, Long memberId) {
+        return index.hasMemberSnapshot(clubId, memberId);
+    }
+
+    boolean hasRegistration(String clubId, Long tournamentId, Long memberId) {
+        return index.hasRegistration(clubId, tournamentId, memberId);
+    }
+
+    boolean isBaselineRecorded() {
+        return Files.exists(directory.resolve(BASELINE_MARKER));
+    }
+
+    // Marks the baseline done once every entry recorded so far is written //
+    void markBaselineRecorded() throws IOException, InterruptedException {
+        flush();
+        Files.writeString(directory.resolve(BASELINE_MARKER), Instant.now().toString());
+    }
+
+    private static Optional<JournalIndex.IndexedEntry> latestSnapshot(List<JournalIndex.IndexedEntry> entries, Instant at) {
+        long atMillis = at.toEpochMilli();
+        JournalIndex.IndexedEntry latest = null;
+        for (JournalIndex.IndexedEntry entry : entries) {
+            if (entry.isMemberEntry() && entry.recordedAtMillis() <= atMillis) {
+                latest = entry;
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    private void awaitWrites() {
+        checkWriter();
+        try {
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while flushing the membership journal", e);
+        }
+    }
+
+    // Merges all sealed segments into one dense file, dropping the unused preallocated
+    // space and entries that repeat the member's previous snapshot. History is kept.
+    public CompactionResult compact() throws IOException {
+        long activeFirstSequence;
+        synchronized (lock) {
+            // Seal the active segment so everything written so far can be compacted //
+            if (!activeSegment.isEmpty()) {
+                rollSegment();
+            }
+            activeFirstSequence = activeSegment.getFirstSequence();
+        }
+
+        // The writer keeps appending to newer segments while the sealed ones are merged //
+        segmentFiles.writeLock().lock();
+        try {
+            List<Path> sealed = listSegments().stream()
+                    .filter(segment -> firstSequenceOf(segment) < activeFirstSequence)
+                    .toList();
+            long bytesBefore = totalSize(sealed);
+            if (sealed.size() <= 1 && sealed.stream().noneMatch(segment -> segment.toString().endsWith(SEGMENT_SUFFIX))) {
+                return new CompactionResult(sealed.size(), sealed.size(), bytesBefore, bytesBefore, 0);
+            }
+
+            List<JournalEntry> kept = new ArrayList<>();
+            Map<Long, JournalEntry> lastSnapshots = new HashMap<>();
+            long firstSequence = -1;
+            long dropped = 0;
+            for (Path segment : sealed) {
+                for (JournalEntry entry : readSegment(segment)) {
+                    if (firstSequence < 0) {
+                        firstSequence = entry.sequence();
+                    }
+                    if (isRedundant(entry, lastSnapshots)) {
+                        dropped++;
+                        continue;
+                    }
+                    if (entry.isMemberEntry()) {
+                        lastSnapshots.put(entry.memberId(), entry);
+                    }
+                    kept.add(entry);
+                }
+            }
+
+            if (kept.isEmpty()) {
+                retireSegments(sealed, null);
+                index.relocate(new HashSet<>(sealed), Map.of());
+                return new CompactionResult(sealed.size(), 0, bytesBefore, 0, dropped);
+            }
+
+            List<byte[]> payloads = kept.stream().map(JournalCodec::encode).toList();
+            long size = Integer.BYTES;
+            for (byte[] payload : payloads) {
+                size += JournalSegment.encodedSize(payload);
+            }
+
+            Path temp = directory.resolve(segmentName(firstSequence, ".tmp"));
+            Path target = directory.resolve(segmentName(firstSequence, COMPACTED_SUFFIX));
+            Map<Long, JournalIndex.Location> relocated = new HashMap<>();
+            Files.deleteIfExists(temp);
+            JournalSegment compacted = JournalSegment.create(temp, firstSequence, size);
+            for (int i = 0; i < payloads.size(); i++) {
+                long offset = compacted.append(payloads.get(i));
+                relocated.put(kept.get(i).sequence(), new JournalIndex.Location(target, offset, payloads.get(i).length));
+            }
+            compacted.close();
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            retireSegments(sealed, target);
+            index.relocate(new HashSet<>(sealed), relocated);
+
+            log.info("Compacted {} journal segments into {} ({} redundant entries dropped)",
+                    sealed.size(), target.getFileName(), dropped);
+            return new CompactionResult(sealed.size(), 1, bytesBefore, Files.size(target), dropped);
+        } finally {
+            segmentFiles.writeLock().unlock();
+        }
+    }
+
+    public record CompactionResult(int segmentsBefore, int segmentsAfter, long bytesBefore, long bytesAfter,
+                                   long entriesDropped) {}
+
+    private boolean isRedundant(JournalEntry entry, Map<Long, JournalEntry> lastSnapshots) {
+        return (entry.type() == JournalEntryType.MEMBER_UPDATED || entry.type() == JournalEntryType.MEMBER_RENEWED)
+                && entry.hasSameSnapshot(lastSnapshots.get(entry.memberId()));
+    }
+
+    // Entries stay queued until they are appended; a failed batch is retried, not dropped //
+    private void writeLoop() {
+        List<JournalEntry> batch = new ArrayList<>(batchSize);
+        while (running || !pending.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    JournalEntry first = pending.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    pending.drainTo(batch, batchSize - 1);
+                }
+                writeBatch(batch);
+                writeFailure = null;
+            } catch (InterruptedException e) {
+                // Only stop() ends the loop //
+            } catch (Throwable e) {
+                writeFailure = e;
+                if (!running) {
+                    log.error("Membership journal stopped with {} entries unwritten", batch.size() + pending.size(), e);
+                    return;
+                }
+                log.error("Failed to write membership journal entries, retrying {} of them", batch.size(), e);
+                pauseBeforeRetry();
+            }
+        }
+    }
+
+    private void pauseBeforeRetry() {
+        try {
+            Thread.sleep(RETRY_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Appends entries from the front of the batch, removing each one once it is in a segment //
+    private void writeBatch(List<JournalEntry> batch) throws IOException {
+        synchronized (lock) {
+            int appended = 0;
+            try {
+                for (JournalEntry entry : batch) {
+                    JournalEntry sequenced = entry.withSequence(nextSequence);
+                    byte[] payload = JournalCodec.encode(sequenced);
+                    long offset = activeSegment.append(payload);
+                    if (offset < 0) {
+                        rollSegment();
+                        offset = activeSegment.append(payload);
+                        if (offset < 0) {
+                            throw new IllegalStateException("Journal entry larger than segment size");
+                        }
+                    }
+                    index.add(sequenced, new JournalIndex.Location(activeSegment.getPath(), offset, payload.length));
+                    nextSequence++;
+                    appended++;
+                }
+            } finally {
+                batch.subList(0, appended).clear();
+                writtenCount += appended;
+                lock.notifyAll();
+            }
+            activeSegment.force();
+        }
+    }
+
+    // The new segment is opened before the full one is replaced, so a failed open leaves
+    // the writer on a usable segment and the batch can be retried.
+    private void rollSegment() throws IOException {
+        if (activeSegment.isEmpty()) {
+            throw new IllegalStateException("Journal entry larger than segment size");
+        }
+        JournalSegment next = openSegment(nextSequence);
+        JournalSegment previous = activeSegment;
+        activeSegment = next;
+        previous.close();
+    }
+
+    // Rebuilds the index, finds the next sequence number and cleans up after a compaction
+    // that was interrupted by a crash or could not delete the segments it replaced.
+    private void recover() throws IOException {
+        try (Stream<Path> temps = Files.list(directory)) {
+            for (Path temp : temps.filter(path -> path.toString().endsWith(".tmp")).toList()) {
+                Files.delete(temp);
+            }
+        }
+
+        long lastCompactedSequence = 0;
+        for (Path segment : listSegments()) {
+            if (segment.toString().endsWith(COMPACTED_SUFFIX)) {
+                List<JournalEntry> entries = readSegment(segment);
+                if (!entries.isEmpty()) {
+                    lastCompactedSequence = Math.max(lastCompactedSequence, entries.get(entries.size() - 1).sequence());
+                }
+            }
+        }
+
+        for (Path segment : listSegments()) {
+            if (segment.toString().endsWith(SEGMENT_SUFFIX) && firstSequenceOf(segment) <= lastCompactedSequence) {
+                Files.delete(segment);
+                continue;
+            }
+            List<JournalSegment.Record> records = JournalSegment.readRecords(segment);
+            if (records.isEmpty() && segment.toString().endsWith(SEGMENT_SUFFIX)) {
+                Files.delete(segment);
+                continue;
+            }
+            for (JournalSegment.Record record : records) {
+                JournalEntry entry = JournalCodec.decode(record.payload());
+                index.add(entry, new JournalIndex.Location(segment, record.payloadOffset(), record.payload().length));
+                nextSequence = Math.max(nextSequence, entry.sequence() + 1);
+            }
+        }
+    }
+
+    private JournalSegment openSegment(long firstSequence) throws IOException {
+        return JournalSegment.create(directory.resolve(segmentName(firstSequence, SEGMENT_SUFFIX)),
+                firstSequence, segmentSizeBytes);
+    }
+
+    private void closeActiveSegment() throws IOException {
+        if (activeSegment != null) {
+            activeSegment.close();
+        }
+    }
+
+    // Deletes segments replaced by compaction, keeping any that are still in use out of reads //
+    private void retireSegments(List<Path> segments, Path replacement) {
+        for (Path segment : segments) {
+            if (segment.equals(replacement)) {
+                continue;
+            }
+            try {
+                Files.delete(segment);
+            } catch (IOException e) {
+                log.warn("Could not delete compacted journal segment {}, it will be removed on restart", segment, e);
+                retiredSegments.add(segment);
+            }
+        }
+    }
+
+    private List<JournalEntry> readEntries(List<JournalIndex.IndexedEntry> entries) {
+        Map<Path, FileChannel> channels = new HashMap<>();
+        try {
+            List<JournalEntry> result = new ArrayList<>(entries.size());
+            for (JournalIndex.IndexedEntry entry : entries) {
+                JournalIndex.Location location = entry.location();
+                FileChannel channel = channels.get(location.segment());
+                if (channel == null) {
+                    channel = FileChannel.open(location.segment(), StandardOpenOption.READ);
+                    channels.put(location.segment(), channel);
+                }
+                result.add(JournalCodec.decode(
+                        JournalSegment.readPayload(channel, location.payloadOffset(), location.length())));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            for (FileChannel channel : channels.values()) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close journal segment", e);
+                }
+            }
+        }
+    }
+
+    private void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private List<Path> listSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> !retiredSegments.contains(path))
+                    .filter(path -> path.toString().endsWith(SEGMENT_SUFFIX) || path.toString().endsWith(COMPACTED_SUFFIX))
+                    .sorted(Comparator.comparingLong(MembershipJournal::firstSequenceOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<JournalEntry> readSegment(Path segment) {
+        try {
+            return JournalSegment.readRecords(segment).stream()
+                    .map(record -> JournalCodec.decode(record.payload()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long totalSize(List<Path> segments) throws IOException {
+        long total = 0;
+        for (Path segment : segments) {
+            total += Files.size(segment);
+        }
+        return total;
+    }
+
+    private static String segmentName(long firstSequence, String suffix) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, suffix);
+    }
+
+    private static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), SEGMENT_PREFIX.length() + 20));
+    }
+}
@@ -0,0 +1,22 @@
+package com.golfclub.member;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Body of POST /members/renew: either explicit member ids or an expiry cut-off //
+public class BulkRenewalRequest {
+
+    private List<Long> ids;
+    private LocalDate expiringBefore;
+    private Integer months;
+
+    // Getters and Setters //
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public LocalDate getExpiringBefore() { return expiringBefore; }
+    public void setExpiringBefore(LocalDate expiringBefore) { this.expiringBefore = expiringBefore; }
+
+    public Integer getMonths() { return months; }
+    public void setMonths(Integer months) { this.months = months; }
+}
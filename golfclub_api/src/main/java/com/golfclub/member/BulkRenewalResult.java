@@ -0,0 +1,3 @@
+package com.golfclub.member;
+
+public record BulkRenewalResult(int renewedCount) {}
@@ -1,17 +1,29 @@
 package com.golfclub.member;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.golfclub.tournament.Tournament;
+import com.golfclub.tournament.TournamentParticipant;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_member_club_email", columnList = "club_id, email"),
+        @Index(name = "idx_member_club_phone", columnList = "club_id, phone"),
+        @Index(name = "idx_member_club_name", columnList = "club_id, name"),
+        @Index(name = "idx_member_club_start", columnList = "club_id, start_date"),
+        @Index(name = "idx_member_club_expiry", columnList = "club_id, expiry_date")
+})
 public class Member {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    @Column(name = "club_id", nullable = false, length = 64)
+    private String clubId;
     private String name;
     private String address;
     private String email;
@@ -19,8 +31,12 @@ public class Member {
     private LocalDate startDate;
     private Integer durationMonths;
 
-    @ManyToMany(mappedBy = "participants")
-    private Set<Tournament> tournaments = new HashSet<>();
+    // Derived from startDate + durationMonths and stored so expiry can be queried by index //
+    @Column(name = "expiry_date")
+    private LocalDate expiryDate;
+
+    @OneToMany(mappedBy = "member")
+    private Set<TournamentParticipant> registrations = new HashSet<>();
 
     // Constructors //
     public Member() {}
@@ -29,6 +45,9 @@ public class Member {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public String getClubId() { return clubId; }
+    public void setClubId(String clubId) { this.clubId = clubId; }
+
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
@@ -47,7 +66,22 @@ public class Member {
     public Integer getDurationMonths() { return durationMonths; }
     public void setDurationMonths(Integer durationMonths) { this.durationMonths = durationMonths; }
 
-    public Set<Tournament> getTournaments() { return tournaments; }
-    public void setTournaments(Set<Tournament> tournaments) { this.tournaments = tournaments; }
+    public LocalDate getExpiryDate() { return expiryDate; }
+
+    @PrePersist
+    @PreUpdate
+    void updateExpiryDate() {
+        expiryDate = startDate != null && durationMonths != null ? startDate.plusMonths(durationMonths) : null;
+    }
+
+    @JsonIgnore
+    public Set<TournamentParticipant> getRegistrations() { return registrations; }
+
+    @JsonIgnore
+    public Set<Tournament> getTournaments() {
+        return registrations.stream()
+                .map(TournamentParticipant::getTournament)
+                .collect(Collectors.toSet());
+    }
 
 }
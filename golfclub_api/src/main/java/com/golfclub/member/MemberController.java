@@ -13,11 +13,8 @@ public class MemberController {
         private MemberService memberService;
 
     @GetMapping
-    public List<Member> searchMembers(
-            @RequestParam(required = false) String name,
-            @RequestParam(required = false) String phone,
-            @RequestParam(required = false) String email) {
-        return memberService.searchMembers(name, phone, email);
+    public List<Member> searchMembers(MemberSearchCriteria criteria) {
+        return memberService.searchMembers(criteria);
     }
 
     @PostMapping
@@ -46,6 +43,11 @@ public class MemberController {
         return memberService.isMembershipActive(id);
     }
 
+    @PostMapping("/renew")
+    public BulkRenewalResult renewMemberships(@RequestBody BulkRenewalRequest request) {
+        return memberService.renewMemberships(request);
+    }
+
     @PostMapping("/{id}/renew")
     public Member renewMembership(@PathVariable Long id, @RequestParam Integer months) {
         return memberService.renewMembership(id, months);
@@ -0,0 +1,29 @@
+package com.golfclub.member;
+
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// Members saved before expiry_date was stored have it NULL, which hides them from
+// expiry searches and bulk renewal. Fills those rows in once at startup.
+@Component
+public class MemberExpiryBackfill implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberExpiryBackfill.class);
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int updated = memberRepository.backfillExpiryDates();
+        if (updated > 0) {
+            log.info("Backfilled expiry dates for {} members", updated);
+        }
+    }
+}
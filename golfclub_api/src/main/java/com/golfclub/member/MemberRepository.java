@@ -1,14 +1,49 @@
 package com.golfclub.member;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+// Every query is scoped to a club so lookups only touch that club's index range //
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecificationExecutor<Member> {
 
-    List<Member> findByNameContainingIgnoreCase(String name);
-    List<Member> findByPhone(String phone);
-    List<Member> findByEmail(String email);
+    Optional<Member> findByClubIdAndId(String clubId, Long id);
+    List<Member> findByClubId(String clubId);
+    List<Member> findByClubIdAndEmail(String clubId, String email);
+    List<Member> findByClubIdAndIdIn(String clubId, Collection<Long> ids);
+
+    // Keyset page of ids expiring before a date, starting after the last id already processed //
+    @Query("select m.id from Member m where m.clubId = :clubId and m.expiryDate < :before and m.id > :afterId order by m.id")
+    List<Long> findIdsExpiringBefore(@Param("clubId") String clubId, @Param("before") LocalDate before,
+                                     @Param("afterId") Long afterId, Pageable pageable);
+
+    // expiryDate is assigned before durationMonths because MySQL applies assignments left to right //
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set "
+            + "m.expiryDate = m.startDate + (coalesce(m.durationMonths, 0) + :months) month, "
+            + "m.durationMonths = coalesce(m.durationMonths, 0) + :months "
+            + "where m.clubId = :clubId and m.id in :ids")
+    int renewMemberships(@Param("clubId") String clubId, @Param("ids") Collection<Long> ids,
+                         @Param("months") int months);
+
+    // Fills in expiry dates for rows written before the column existed; safe to run repeatedly //
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.expiryDate = m.startDate + m.durationMonths month "
+            + "where m.expiryDate is null and m.startDate is not null and m.durationMonths is not null")
+    int backfillExpiryDates();
+
+    // Assigns rows written before clubs existed to the given club; safe to run repeatedly //
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.clubId = :clubId where m.clubId is null or m.clubId = ''")
+    int assignUnownedMembers(@Param("clubId") String clubId);
 }
@@ -0,0 +1,130 @@
+package com.golfclub.member;
+
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Member search filters. Every filter that is set is combined into one SQL query,
+// always led by the club so it runs against the club_id indexes.
+public class MemberSearchCriteria {
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "name", "email", "startDate", "expiryDate");
+    private static final char LIKE_ESCAPE = '\\';
+
+    private String name;
+    private String phone;
+    private String email;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate expiresFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate expiresTo;
+    private String sort;
+    private String order;
+    private Integer limit;
+
+    public Specification<Member> toSpecification(String clubId) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("clubId"), clubId));
+
+            if (hasText(name)) {
+                predicates.add(cb.like(cb.lower(root.get("name")), containsPattern(name), LIKE_ESCAPE));
+            }
+            if (hasText(phone)) {
+                predicates.add(cb.equal(root.get("phone"), phone.trim()));
+            }
+            if (hasText(email)) {
+                predicates.add(cb.equal(root.get("email"), email.trim()));
+            }
+            if (startFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("startDate"), startFrom));
+            }
+            if (startTo != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("startDate"), startTo));
+            }
+            if (expiresFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("expiryDate"), expiresFrom));
+            }
+            if (expiresTo != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("expiryDate"), expiresTo));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public Sort toSort() {
+        if (!hasText(sort)) {
+            return Sort.by("id");
+        }
+        if (!SORTABLE_FIELDS.contains(sort)) {
+            throw new IllegalArgumentException("Cannot sort members by " + sort);
+        }
+        return Sort.by("desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC, sort);
+    }
+
+    public void validate() {
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (startFrom != null && startTo != null && startFrom.isAfter(startTo)) {
+            throw new IllegalArgumentException("startFrom cannot be after startTo");
+        }
+        if (expiresFrom != null && expiresTo != null && expiresFrom.isAfter(expiresTo)) {
+            throw new IllegalArgumentException("expiresFrom cannot be after expiresTo");
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    // Matches the value literally anywhere in the column, so % _ and \ in the input are not wildcards //
+    private static String containsPattern(String value) {
+        String escaped = value.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // Getters and Setters //
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public LocalDate getStartFrom() { return startFrom; }
+    public void setStartFrom(LocalDate startFrom) { this.startFrom = startFrom; }
+
+    public LocalDate getStartTo() { return startTo; }
+    public void setStartTo(LocalDate startTo) { this.startTo = startTo; }
+
+    public LocalDate getExpiresFrom() { return expiresFrom; }
+    public void setExpiresFrom(LocalDate expiresFrom) { this.expiresFrom = expiresFrom; }
+
+    public LocalDate getExpiresTo() { return expiresTo; }
+    public void setExpiresTo(LocalDate expiresTo) { this.expiresTo = expiresTo; }
+
+    public String getSort() { return sort; }
+    public void setSort(String sort) { this.sort = sort; }
+
+    public String getOrder() { return order; }
+    public void setOrder(String order) { this.order = order; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+}
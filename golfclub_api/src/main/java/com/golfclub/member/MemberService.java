@@ -1,8 +1,21 @@
 package com.golfclub.member;
 
+import com.golfclub.club.ClubContext;
+import com.golfclub.journal.JournalEntry;
+import com.golfclub.journal.JournalEntryType;
+import com.golfclub.journal.MembershipJournal;
+import com.golfclub.tournament.TournamentReadCoalescer;
+import com.golfclub.tournament.TournamentRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -11,51 +24,76 @@ import java.util.Optional;
 @Service
 @Transactional
 public class MemberService {
+
     @Autowired
     private MemberRepository memberRepository;
 
-    public List<Member> searchMembers(String name, String phone, String email) {
-        if (name != null && !name.trim().isEmpty()) {
-            return memberRepository.findByNameContainingIgnoreCase(name.trim());
-        }
-        if (phone != null && !phone.trim().isEmpty()) {
-            return memberRepository.findByPhone(phone.trim());
-        }
-        if (email != null && !email.trim().isEmpty()) {
-            return memberRepository.findByEmail(email.trim());
+    @Autowired
+    private MembershipJournal membershipJournal;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TournamentReadCoalescer tournamentReadCoalescer;
+
+    // Members renewed per UPDATE statement in a bulk renewal //
+    @Value("${golfclub.renewal.chunk-size:500}")
+    private int renewalChunkSize;
+
+    private TransactionTemplate chunkTransaction;
+
+    @Autowired
+    void setTransactionManager(PlatformTransactionManager transactionManager) {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public List<Member> searchMembers(MemberSearchCriteria criteria) {
+        criteria.validate();
+        Specification<Member> specification = criteria.toSpecification(ClubContext.getClubId());
+        Sort sort = criteria.toSort();
+
+        if (criteria.getLimit() == null) {
+            return memberRepository.findAll(specification, sort);
         }
-        return memberRepository.findAll();
+        return memberRepository.findBy(specification, query -> query.sortBy(sort).limit(criteria.getLimit()).all());
     }
 
     public List<Member> getAllMembers() {
-        return memberRepository.findAll();
+        return memberRepository.findByClubId(ClubContext.getClubId());
     }
 
     public Optional<Member> getMemberById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("Member ID cannot be null");
         }
-        return memberRepository.findById(id);
+        return memberRepository.findByClubIdAndId(ClubContext.getClubId(), id);
     }
 
     public Member createMember(Member member) {
         validateMember(member);
 
         // Check if email already exists //
-        if (member.getEmail() != null && !memberRepository.findByEmail(member.getEmail()).isEmpty()) {
+        if (member.getEmail() != null && !memberRepository.findByClubIdAndEmail(ClubContext.getClubId(), member.getEmail()).isEmpty()) {
             throw new IllegalArgumentException("Member with email " + member.getEmail() + " already exists");
         }
 
+        // Members always belong to the club of the current request //
+        member.setClubId(ClubContext.getClubId());
+
         // Set start date if not provided //
         if (member.getStartDate() == null) {
             member.setStartDate(LocalDate.now());
         }
 
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        membershipJournal.record(JournalEntry.forMember(JournalEntryType.MEMBER_CREATED, savedMember));
+        return savedMember;
     }
 
     public Member updateMember(Long id, Member updatedMember) {
-        Member existingMember = memberRepository.findById(id)
+        Member existingMember = memberRepository.findByClubIdAndId(ClubContext.getClubId(), id)
                 .orElseThrow(() -> new MemberNotFoundException("Member with ID " + id + " not found"));
 
         validateMember(updatedMember);
@@ -63,7 +101,7 @@ public class MemberService {
         // Check if email is being changed to one that already exists //
         if (updatedMember.getEmail() != null &&
                 !updatedMember.getEmail().equals(existingMember.getEmail()) &&
-                !memberRepository.findByEmail(updatedMember.getEmail()).isEmpty()) {
+                !memberRepository.findByClubIdAndEmail(ClubContext.getClubId(), updatedMember.getEmail()).isEmpty()) {
             throw new IllegalArgumentException("Member with email " + updatedMember.getEmail() + " already exists");
         }
 
@@ -79,11 +117,14 @@ public class MemberService {
             existingMember.setStartDate(updatedMember.getStartDate());
         }
 
-        return memberRepository.save(existingMember);
+        Member savedMember = memberRepository.save(existingMember);
+        membershipJournal.record(JournalEntry.forMember(JournalEntryType.MEMBER_UPDATED, savedMember));
+        invalidateTournamentReads(savedMember.getClubId(), List.of(savedMember.getId()));
+        return savedMember;
     }
 
     public void deleteMember(Long id) {
-        Member member = memberRepository.findById(id)
+        Member member = memberRepository.findByClubIdAndId(ClubContext.getClubId(), id)
                 .orElseThrow(() -> new MemberNotFoundException("Member with ID " + id + " not found"));
 
         // Check if member is enrolled in any active tournaments //
@@ -92,10 +133,11 @@ public class MemberService {
         }
 
         memberRepository.delete(member);
+        membershipJournal.record(JournalEntry.forMember(JournalEntryType.MEMBER_DELETED, member));
     }
 
     public boolean isMembershipActive(Long memberId) {
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findByClubIdAndId(ClubContext.getClubId(), memberId)
                 .orElseThrow(() -> new MemberNotFoundException("Member with ID " + memberId + " not found"));
 
         if (member.getStartDate() == null || member.getDurationMonths() == null) {
@@ -107,7 +149,7 @@ public class MemberService {
     }
 
     public LocalDate getMembershipExpiryDate(Long memberId) {
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findByClubIdAndId(ClubContext.getClubId(), memberId)
                 .orElseThrow(() -> new MemberNotFoundException("Member with ID " + memberId + " not found"));
 
         if (member.getStartDate() == null || member.getDurationMonths() == null) {
@@ -118,7 +160,7 @@ public class MemberService {
     }
 
     public Member renewMembership(Long memberId, Integer additionalMonths) {
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findByClubIdAndId(ClubContext.getClubId(), memberId)
                 .orElseThrow(() -> new MemberNotFoundException("Member with ID " + memberId + " not found"));
 
         if (additionalMonths == null || additionalMonths <= 0) {
@@ -131,35 +173,85 @@ public class MemberService {
             member.setDurationMonths(member.getDurationMonths() + additionalMonths);
         }
 
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        membershipJournal.record(JournalEntry.forMember(JournalEntryType.MEMBER_RENEWED, savedMember));
+        invalidateTournamentReads(savedMember.getClubId(), List.of(savedMember.getId()));
+        return savedMember;
+    }
+
+    // Renews many memberships with chunked set-based UPDATEs instead of loading each member.
+    // Each chunk commits on its own, so a large renewal never holds one long transaction.
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public BulkRenewalResult renewMemberships(BulkRenewalRequest request) {
+        if (request == null || request.getMonths() == null || request.getMonths() <= 0) {
+            throw new IllegalArgumentException("Additional months must be positive");
+        }
+
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (hasIds == (request.getExpiringBefore() != null)) {
+            throw new IllegalArgumentException("Provide either member ids or an expiringBefore date");
+        }
+
+        String clubId = ClubContext.getClubId();
+        int renewed = 0;
+
+        if (hasIds) {
+            List<Long> ids = request.getIds().stream().distinct().toList();
+            for (int from = 0; from < ids.size(); from += renewalChunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + renewalChunkSize, ids.size()));
+                renewed += renewChunk(clubId, chunk, request.getMonths());
+            }
+        } else {
+            long lastId = 0;
+            List<Long> chunk;
+            do {
+                chunk = memberRepository.findIdsExpiringBefore(clubId, request.getExpiringBefore(), lastId,
+                        PageRequest.of(0, renewalChunkSize));
+                if (!chunk.isEmpty()) {
+                    renewed += renewChunk(clubId, chunk, request.getMonths());
+                    lastId = chunk.get(chunk.size() - 1);
+                }
+            } while (chunk.size() == renewalChunkSize);
+        }
+
+        return new BulkRenewalResult(renewed);
+    }
+
+    // Ids from other clubs are ignored by the club condition in both statements //
+    private int renewChunk(String clubId, List<Long> ids, int months) {
+        Integer updated = chunkTransaction.execute(status -> {
+            int count = memberRepository.renewMemberships(clubId, ids, months);
+
+            // Journal the renewed state; one read per chunk, not per member //
+            for (Member member : memberRepository.findByClubIdAndIdIn(clubId, ids)) {
+                membershipJournal.record(JournalEntry.forMember(JournalEntryType.MEMBER_RENEWED, member));
+            }
+            invalidateTournamentReads(clubId, ids);
+            return count;
+        });
+        return updated == null ? 0 : updated;
+    }
+
+    // Tournament reads carry participants' member details, so once a member change commits
+    // the tournaments they are registered for must not share a load started before it //
+    private void invalidateTournamentReads(String clubId, List<Long> memberIds) {
+        tournamentReadCoalescer.invalidateAfterCommit(clubId,
+                tournamentRepository.findTournamentIdsByMemberIds(clubId, memberIds));
     }
 
     public List<Member> getExpiredMembers() {
-        List<Member> allMembers = memberRepository.findAll();
-        return allMembers.stream()
-                .filter(member -> {
-                    if (member.getStartDate() == null || member.getDurationMonths() == null) {
-                        return false;
-                    }
-                    LocalDate endDate = member.getStartDate().plusMonths(member.getDurationMonths());
-                    return LocalDate.now().isAfter(endDate);
-                })
-                .toList();
+        MemberSearchCriteria criteria = new MemberSearchCriteria();
+        criteria.setExpiresTo(LocalDate.now().minusDays(1));
+        return searchMembers(criteria);
     }
 
     public List<Member> getMembersExpiringWithin(int days) {
         LocalDate cutoffDate = LocalDate.now().plusDays(days);
-        List<Member> allMembers = memberRepository.findAll();
-
-        return allMembers.stream()
-                .filter(member -> {
-                    if (member.getStartDate() == null || member.getDurationMonths() == null) {
-                        return false;
-                    }
-                    LocalDate endDate = member.getStartDate().plusMonths(member.getDurationMonths());
-                    return endDate.isAfter(LocalDate.now()) && endDate.isBefore(cutoffDate);
-                })
-                .toList();
+
+        MemberSearchCriteria criteria = new MemberSearchCriteria();
+        criteria.setExpiresFrom(LocalDate.now().plusDays(1));
+        criteria.setExpiresTo(cutoffDate.minusDays(1));
+        return searchMembers(criteria);
     }
 
     private void validateMember(Member member) {
@@ -1,32 +1,38 @@
 package com.golfclub.tournament;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.golfclub.member.Member;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_tournament_club_start", columnList = "club_id, start_date"),
+        @Index(name = "idx_tournament_club_location", columnList = "club_id, location"),
+        @Index(name = "idx_tournament_club_end", columnList = "club_id, end_date"),
+        @Index(name = "idx_tournament_club_fee", columnList = "club_id, entry_fee"),
+        @Index(name = "idx_tournament_club_prize", columnList = "club_id, cash_prize")
+})
 public class Tournament {
 
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    @Column(name = "club_id", nullable = false, length = 64)
+    private String clubId;
     private LocalDate startDate;
     private LocalDate endDate;
     private String location;
     private float entryFee;
     private float cashPrize;
 
-    @ManyToMany
-    @JoinTable(
-            name = "tournament_participants",
-            joinColumns = @JoinColumn(name = "tournament_id"),
-            inverseJoinColumns = @JoinColumn(name = "member_id")
-    )
-    private Set<Member> participants = new HashSet<>();
+    @OneToMany(mappedBy = "tournament", cascade = CascadeType.ALL, orphanRemoval = true)
+    private Set<TournamentParticipant> registrations = new HashSet<>();
 
     // Constructors
     public Tournament() {
@@ -41,6 +47,14 @@ public class Tournament {
         this.id = id;
     }
 
+    public String getClubId() {
+        return clubId;
+    }
+
+    public void setClubId(String clubId) {
+        this.clubId = clubId;
+    }
+
     public LocalDate getStartDate() {
         return startDate;
     }
@@ -81,10 +95,29 @@ public class Tournament {
         this.cashPrize = cashPrize;
     }
 
+    @JsonIgnore
+    public Set<TournamentParticipant> getRegistrations() {
+        return registrations;
+    }
+
     public Set<Member> getParticipants() {
-        return participants;
+        return registrations.stream()
+                .map(TournamentParticipant::getMember)
+                .collect(Collectors.toSet());
     }
 
     public void setParticipants(Set<Member> participants) {
     }
+
+    public boolean hasParticipant(Member member) {
+        return registrations.stream().anyMatch(registration -> registration.getMember().equals(member));
+    }
+
+    public void addParticipant(Member member) {
+        registrations.add(new TournamentParticipant(this, member));
+    }
+
+    public void removeParticipant(Member member) {
+        registrations.removeIf(registration -> registration.getMember().equals(member));
+    }
 }
\ No newline at end of file
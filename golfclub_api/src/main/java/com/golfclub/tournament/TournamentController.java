@@ -1,14 +1,10 @@
 package com.golfclub.tournament;
 
-import com.golfclub.member.Member;
 import com.golfclub.member.MemberRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
 
 @RestController
 @RequestMapping("/tournaments")
@@ -18,10 +14,8 @@ public class TournamentController {
     private TournamentService tournamentService;
 
     @GetMapping
-    public List<Tournament> searchTournaments(
-            @RequestParam(required = false) String location,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate) {
-        return tournamentService.searchTournaments(location, startDate);
+    public List<Tournament> searchTournaments(TournamentSearchCriteria criteria) {
+        return tournamentService.searchTournaments(criteria);
     }
 
     @PostMapping
@@ -30,7 +24,7 @@ public class TournamentController {
     }
 
     @GetMapping("/{id}")
-    public Tournament getTournament(@PathVariable Long id) {
+    public TournamentDetails getTournament(@PathVariable Long id) {
         return tournamentService.getTournamentById(id)
                 .orElseThrow(() -> new TournamentNotFoundException("Tournament not found"));
     }
@@ -56,7 +50,7 @@ public class TournamentController {
     }
 
     @GetMapping("/{id}/members")
-    public Set<Member> getTournamentMembers(@PathVariable Long id) {
+    public List<TournamentDetails.Participant> getTournamentMembers(@PathVariable Long id) {
         return tournamentService.getTournamentParticipants(id);
     }
 
@@ -70,6 +64,11 @@ public class TournamentController {
         return tournamentService.getActiveTournaments();
     }
 
+    @GetMapping("/coalescing-stats")
+    public TournamentReadCoalescer.Stats getReadCoalescingStats() {
+        return tournamentService.getReadCoalescingStats();
+    }
+
     @GetMapping("/{id}/prize-pool")
     public float getTotalPrizePool(@PathVariable Long id) {
         return tournamentService.calculateTotalPrizePool(id);
@@ -0,0 +1,55 @@
+package com.golfclub.tournament;
+
+import com.golfclub.member.Member;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+// Immutable copy of a tournament and its participants, built inside the loading
+// transaction so one coalesced result can be handed to many requests safely.
+public record TournamentDetails(
+        Long id,
+        String clubId,
+        LocalDate startDate,
+        LocalDate endDate,
+        String location,
+        float entryFee,
+        float cashPrize,
+        List<Participant> participants,
+        float totalPrizePool) {
+
+    public TournamentDetails {
+        participants = List.copyOf(participants);
+    }
+
+    public record Participant(
+            Long id,
+            String clubId,
+            String name,
+            String address,
+            String email,
+            String phone,
+            LocalDate startDate,
+            Integer durationMonths,
+            LocalDate expiryDate) {
+
+        static Participant from(Member member) {
+            return new Participant(member.getId(), member.getClubId(), member.getName(), member.getAddress(),
+                    member.getEmail(), member.getPhone(), member.getStartDate(), member.getDurationMonths(),
+                    member.getExpiryDate());
+        }
+    }
+
+    static TournamentDetails from(Tournament tournament) {
+        List<Participant> participants = tournament.getParticipants().stream()
+                .map(Participant::from)
+                .sorted(Comparator.comparing(Participant::id))
+                .toList();
+        float totalPrizePool = tournament.getEntryFee() * participants.size() + tournament.getCashPrize();
+
+        return new TournamentDetails(tournament.getId(), tournament.getClubId(), tournament.getStartDate(),
+                tournament.getEndDate(), tournament.getLocation(), tournament.getEntryFee(), tournament.getCashPrize(),
+                participants, totalPrizePool);
+    }
+}
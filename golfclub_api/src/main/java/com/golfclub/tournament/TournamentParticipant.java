@@ -0,0 +1,71 @@
+package com.golfclub.tournament;
+
+import com.golfclub.member.Member;
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+// Row of the tournament_participants join table, carrying the owning club //
+@Entity
+@Table(name = "tournament_participants", indexes = {
+        @Index(name = "idx_participants_club_tournament", columnList = "club_id, tournament_id"),
+        @Index(name = "idx_participants_club_member", columnList = "club_id, member_id")
+})
+public class TournamentParticipant {
+
+    @EmbeddedId
+    private TournamentParticipantId id;
+
+    @MapsId("tournamentId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tournament_id")
+    private Tournament tournament;
+
+    @MapsId("memberId")
+    @ManyToOne
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @Column(name = "club_id", nullable = false, length = 64)
+    private String clubId;
+
+    // Constructors
+    protected TournamentParticipant() {
+    }
+
+    public TournamentParticipant(Tournament tournament, Member member) {
+        this.id = new TournamentParticipantId(tournament.getId(), member.getId());
+        this.tournament = tournament;
+        this.member = member;
+        this.clubId = tournament.getClubId();
+    }
+
+    // Getters
+    public TournamentParticipantId getId() {
+        return id;
+    }
+
+    public Tournament getTournament() {
+        return tournament;
+    }
+
+    public Member getMember() {
+        return member;
+    }
+
+    public String getClubId() {
+        return clubId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TournamentParticipant other)) return false;
+        return Objects.equals(id, other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
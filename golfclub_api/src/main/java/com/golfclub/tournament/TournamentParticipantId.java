@@ -0,0 +1,49 @@
+package com.golfclub.tournament;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class TournamentParticipantId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // Constructors
+    public TournamentParticipantId() {
+    }
+
+    public TournamentParticipantId(Long tournamentId, Long memberId) {
+        this.tournamentId = tournamentId;
+        this.memberId = memberId;
+    }
+
+    // Getters
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TournamentParticipantId other)) return false;
+        return Objects.equals(tournamentId, other.tournamentId) && Objects.equals(memberId, other.memberId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tournamentId, memberId);
+    }
+}
@@ -0,0 +1,109 @@
+package com.golfclub.tournament;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Single-flight loading of tournaments: concurrent reads of the same tournament share
+// one in-flight database load and its result. Nothing is cached once the load finishes.
+// The shared result reaches several threads, so loaders must return immutable values.
+@Component
+public class TournamentReadCoalescer {
+
+    private final ConcurrentHashMap<TournamentKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // Counted per club, so a club's stats never reveal another club's traffic //
+    private final ConcurrentHashMap<String, ClubCounters> counters = new ConcurrentHashMap<>();
+
+    private record TournamentKey(String clubId, Long tournamentId) {}
+
+    private static final class ClubCounters {
+        private final AtomicLong loads = new AtomicLong();
+        private final AtomicLong coalescedRequests = new AtomicLong();
+        private final AtomicLong invalidations = new AtomicLong();
+    }
+
+    public record Stats(long loads, long coalescedRequests, long invalidations, int inFlight) {}
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String clubId, Long tournamentId, Supplier<T> loader) {
+        TournamentKey key = new TournamentKey(clubId, tournamentId);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, load);
+
+        if (existing != null) {
+            counters(clubId).coalescedRequests.incrementAndGet();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        counters(clubId).loads.incrementAndGet();
+        try {
+            T result = loader.get();
+            load.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Waiters must be released whatever the loader throws, errors included //
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    // Once a write commits, requests for that tournament must not join a load that may
+    // have read the old data. Loads already running finish for the requests waiting on them.
+    public void invalidateAfterCommit(String clubId, Long tournamentId) {
+        invalidateAfterCommit(clubId, List.of(tournamentId));
+    }
+
+    public void invalidateAfterCommit(String clubId, Collection<Long> tournamentIds) {
+        if (tournamentIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tournamentIds.forEach(tournamentId -> invalidate(clubId, tournamentId));
+                }
+            });
+        } else {
+            tournamentIds.forEach(tournamentId -> invalidate(clubId, tournamentId));
+        }
+    }
+
+    public void invalidate(String clubId, Long tournamentId) {
+        inFlight.remove(new TournamentKey(clubId, tournamentId));
+        counters(clubId).invalidations.incrementAndGet();
+    }
+
+    public Stats getStats(String clubId) {
+        int clubInFlight = (int) inFlight.keySet().stream().filter(key -> key.clubId().equals(clubId)).count();
+        ClubCounters club = counters.get(clubId);
+        if (club == null) {
+            return new Stats(0, 0, 0, clubInFlight);
+        }
+        return new Stats(club.loads.get(), club.coalescedRequests.get(), club.invalidations.get(), clubInFlight);
+    }
+
+    private ClubCounters counters(String clubId) {
+        return counters.computeIfAbsent(clubId, id -> new ClubCounters());
+    }
+}
@@ -1,14 +1,44 @@
 package com.golfclub.tournament;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+// Every query is scoped to a club so lookups only touch that club's index range //
 @Repository
-public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+public interface TournamentRepository extends JpaRepository<Tournament, Long>, JpaSpecificationExecutor<Tournament> {
 
-    List<Tournament> findByStartDate(LocalDate startDate);
-    List<Tournament> findByLocationContainingIgnoreCase(String location);
+    Optional<Tournament> findByClubIdAndId(String clubId, Long id);
+    List<Tournament> findByClubId(String clubId);
+
+    @Query("select t from Tournament t left join fetch t.registrations r left join fetch r.member "
+            + "where t.clubId = :clubId and t.id = :id")
+    Optional<Tournament> findWithParticipantsByClubIdAndId(@Param("clubId") String clubId, @Param("id") Long id);
+
+    // Tournaments the given members are registered for //
+    @Query("select distinct p.id.tournamentId from TournamentParticipant p "
+            + "where p.clubId = :clubId and p.id.memberId in :memberIds")
+    List<Long> findTournamentIdsByMemberIds(@Param("clubId") String clubId,
+                                            @Param("memberIds") Collection<Long> memberIds);
+
+    // All registrations across clubs, a page at a time, with their members in the same query //
+    @Query("select p from TournamentParticipant p join fetch p.member order by p.id.tournamentId, p.id.memberId")
+    List<TournamentParticipant> findRegistrations(Pageable pageable);
+
+    // Assign rows written before clubs existed to the given club; safe to run repeatedly //
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Tournament t set t.clubId = :clubId where t.clubId is null or t.clubId = ''")
+    int assignUnownedTournaments(@Param("clubId") String clubId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TournamentParticipant p set p.clubId = :clubId where p.clubId is null or p.clubId = ''")
+    int assignUnownedRegistrations(@Param("clubId") String clubId);
 }
@@ -0,0 +1,159 @@
+package com.golfclub.tournament;
+
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Tournament search filters. Every filter that is set is combined into one SQL query,
+// always led by the club so it runs against the club_id indexes.
+public class TournamentSearchCriteria {
+
+    private static final Set<String> SORTABLE_FIELDS =
+            Set.of("id", "startDate", "endDate", "location", "entryFee", "cashPrize");
+    private static final char LIKE_ESCAPE = '\\';
+
+    private String location;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endTo;
+    private Float minEntryFee;
+    private Float maxEntryFee;
+    private Float minCashPrize;
+    private Float maxCashPrize;
+    private String sort;
+    private String order;
+    private Integer limit;
+
+    public Specification<Tournament> toSpecification(String clubId) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("clubId"), clubId));
+
+            if (hasText(location)) {
+                predicates.add(cb.like(cb.lower(root.get("location")), containsPattern(location), LIKE_ESCAPE));
+            }
+            if (startDate != null) {
+                predicates.add(cb.equal(root.get("startDate"), startDate));
+            }
+            if (startFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("startDate"), startFrom));
+            }
+            if (startTo != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("startDate"), startTo));
+            }
+            if (endFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("endDate"), endFrom));
+            }
+            if (endTo != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("endDate"), endTo));
+            }
+            if (minEntryFee != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("entryFee"), minEntryFee));
+            }
+            if (maxEntryFee != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("entryFee"), maxEntryFee));
+            }
+            if (minCashPrize != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("cashPrize"), minCashPrize));
+            }
+            if (maxCashPrize != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("cashPrize"), maxCashPrize));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public Sort toSort() {
+        if (!hasText(sort)) {
+            return Sort.by("id");
+        }
+        if (!SORTABLE_FIELDS.contains(sort)) {
+            throw new IllegalArgumentException("Cannot sort tournaments by " + sort);
+        }
+        return Sort.by("desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC, sort);
+    }
+
+    public void validate() {
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (startFrom != null && startTo != null && startFrom.isAfter(startTo)) {
+            throw new IllegalArgumentException("startFrom cannot be after startTo");
+        }
+        if (endFrom != null && endTo != null && endFrom.isAfter(endTo)) {
+            throw new IllegalArgumentException("endFrom cannot be after endTo");
+        }
+        if (minEntryFee != null && maxEntryFee != null && minEntryFee > maxEntryFee) {
+            throw new IllegalArgumentException("minEntryFee cannot be greater than maxEntryFee");
+        }
+        if (minCashPrize != null && maxCashPrize != null && minCashPrize > maxCashPrize) {
+            throw new IllegalArgumentException("minCashPrize cannot be greater than maxCashPrize");
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    // Matches the value literally anywhere in the column, so % _ and \ in the input are not wildcards //
+    private static String containsPattern(String value) {
+        String escaped = value.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // Getters and Setters
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getStartFrom() { return startFrom; }
+    public void setStartFrom(LocalDate startFrom) { this.startFrom = startFrom; }
+
+    public LocalDate getStartTo() { return startTo; }
+    public void setStartTo(LocalDate startTo) { this.startTo = startTo; }
+
+    public LocalDate getEndFrom() { return endFrom; }
+    public void setEndFrom(LocalDate endFrom) { this.endFrom = endFrom; }
+
+    public LocalDate getEndTo() { return endTo; }
+    public void setEndTo(LocalDate endTo) { this.endTo = endTo; }
+
+    public Float getMinEntryFee() { return minEntryFee; }
+    public void setMinEntryFee(Float minEntryFee) { this.minEntryFee = minEntryFee; }
+
+    public Float getMaxEntryFee() { return maxEntryFee; }
+    public void setMaxEntryFee(Float maxEntryFee) { this.maxEntryFee = maxEntryFee; }
+
+    public Float getMinCashPrize() { return minCashPrize; }
+    public void setMinCashPrize(Float minCashPrize) { this.minCashPrize = minCashPrize; }
+
+    public Float getMaxCashPrize() { return maxCashPrize; }
+    public void setMaxCashPrize(Float maxCashPrize) { this.maxCashPrize = maxCashPrize; }
+
+    public String getSort() { return sort; }
+    public void setSort(String sort) { this.sort = sort; }
+
+    public String getOrder() { return order; }
+    public void setOrder(String order) { this.order = order; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+}
@@ -1,15 +1,23 @@
 package com.golfclub.tournament;
 
+import com.golfclub.club.ClubContext;
+import com.golfclub.journal.JournalEntry;
+import com.golfclub.journal.JournalEntryType;
+import com.golfclub.journal.MembershipJournal;
 import com.golfclub.member.Member;
 import com.golfclub.member.MemberRepository;
+import jakarta.persistence.criteria.Expression;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Service
 @Transactional
@@ -21,34 +29,55 @@ public class TournamentService{
     @Autowired
     private MemberRepository memberRepository;
 
-    public List<Tournament> searchTournaments(String location, LocalDate startDate) {
-        if (location != null && !location.trim().isEmpty()) {
-            return tournamentRepository.findByLocationContainingIgnoreCase(location.trim());
-        }
-        if (startDate != null) {
-            return tournamentRepository.findByStartDate(startDate);
+    @Autowired
+    private MembershipJournal membershipJournal;
+
+    @Autowired
+    private TournamentReadCoalescer readCoalescer;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    void setTransactionManager(PlatformTransactionManager transactionManager) {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    public List<Tournament> searchTournaments(TournamentSearchCriteria criteria) {
+        criteria.validate();
+        Specification<Tournament> specification = criteria.toSpecification(ClubContext.getClubId());
+        Sort sort = criteria.toSort();
+
+        if (criteria.getLimit() == null) {
+            return tournamentRepository.findAll(specification, sort);
         }
-        return tournamentRepository.findAll();
+        return tournamentRepository.findBy(specification, query -> query.sortBy(sort).limit(criteria.getLimit()).all());
     }
 
     public List<Tournament> getAllTournaments() {
-        return tournamentRepository.findAll();
+        return tournamentRepository.findByClubId(ClubContext.getClubId());
     }
 
-    public Optional<Tournament> getTournamentById(Long id) {
+    // Coalesced reads run outside the class-level transaction so requests waiting on
+    // another request's load do not hold a database connection.
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public Optional<TournamentDetails> getTournamentById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("Tournament ID cannot be null");
         }
-        return tournamentRepository.findById(id);
+        return loadTournamentDetails(id);
     }
 
     public Tournament createTournament(Tournament tournament) {
         validateTournament(tournament);
+
+        // Tournaments always belong to the club of the current request //
+        tournament.setClubId(ClubContext.getClubId());
         return tournamentRepository.save(tournament);
     }
 
     public Tournament updateTournament(Long id, Tournament updatedTournament) {
-        Tournament existingTournament = tournamentRepository.findById(id)
+        Tournament existingTournament = tournamentRepository.findByClubIdAndId(ClubContext.getClubId(), id)
                 .orElseThrow(() -> new TournamentNotFoundException("Tournament with ID " + id + " not found"));
 
         validateTournament(updatedTournament);
@@ -60,11 +89,12 @@ public class TournamentService{
         existingTournament.setEntryFee(updatedTournament.getEntryFee());
         existingTournament.setCashPrize(updatedTournament.getCashPrize());
 
+        readCoalescer.invalidateAfterCommit(existingTournament.getClubId(), id);
         return tournamentRepository.save(existingTournament);
     }
 
     public void deleteTournament(Long id) {
-        Tournament tournament = tournamentRepository.findById(id)
+        Tournament tournament = tournamentRepository.findByClubIdAndId(ClubContext.getClubId(), id)
                 .orElseThrow(() -> new TournamentNotFoundException("Tournament with ID " + id + " not found"));
 
         // Check if tournament has already started //
@@ -73,28 +103,37 @@ public class TournamentService{
             throw new IllegalStateException("Cannot delete a tournament that has already started");
         }
 
+        for (TournamentParticipant registration : tournament.getRegistrations()) {
+            membershipJournal.record(JournalEntry.forRegistration(JournalEntryType.REGISTRATION_REMOVED,
+                    tournament.getClubId(), tournament.getId(), registration.getMember().getId()));
+        }
         tournamentRepository.delete(tournament);
+        readCoalescer.invalidateAfterCommit(tournament.getClubId(), id);
     }
 
     public Tournament addMemberToTournament(Long tournamentId, Long memberId) {
-        Tournament tournament = tournamentRepository.findById(tournamentId)
+        Tournament tournament = tournamentRepository.findByClubIdAndId(ClubContext.getClubId(), tournamentId)
                 .orElseThrow(() -> new TournamentNotFoundException("Tournament with ID " + tournamentId + " not found"));
 
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findByClubIdAndId(ClubContext.getClubId(), memberId)
                 .orElseThrow(() -> new MemberNotFoundException("Member with ID " + memberId + " not found"));
 
         // Business rule validations //
         validateMemberRegistration(tournament, member);
 
-        tournament.getParticipants().add(member);
-        return tournamentRepository.save(tournament);
+        tournament.addParticipant(member);
+        Tournament savedTournament = tournamentRepository.save(tournament);
+        membershipJournal.record(JournalEntry.forRegistration(JournalEntryType.REGISTRATION_ADDED,
+                tournament.getClubId(), tournamentId, memberId));
+        readCoalescer.invalidateAfterCommit(tournament.getClubId(), tournamentId);
+        return savedTournament;
     }
 
     public Tournament removeMemberFromTournament(Long tournamentId, Long memberId) {
-        Tournament tournament = tournamentRepository.findById(tournamentId)
+        Tournament tournament = tournamentRepository.findByClubIdAndId(ClubContext.getClubId(), tournamentId)
                 .orElseThrow(() -> new TournamentNotFoundException("Tournament with ID " + tournamentId + " not found"));
 
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findByClubIdAndId(ClubContext.getClubId(), memberId)
                 .orElseThrow(() -> new MemberNotFoundException("Member with ID " + memberId + " not found"));
 
         // Check if tournament has already started
@@ -102,88 +141,86 @@ public class TournamentService{
             throw new IllegalStateException("Cannot remove members from a tournament that has already started");
         }
 
-        if (!tournament.getParticipants().contains(member)) {
+        if (!tournament.hasParticipant(member)) {
             throw new IllegalArgumentException("Member is not registered for this tournament");
         }
 
-        tournament.getParticipants().remove(member);
-        return tournamentRepository.save(tournament);
+        tournament.removeParticipant(member);
+        Tournament savedTournament = tournamentRepository.save(tournament);
+        membershipJournal.record(JournalEntry.forRegistration(JournalEntryType.REGISTRATION_REMOVED,
+                tournament.getClubId(), tournamentId, memberId));
+        readCoalescer.invalidateAfterCommit(tournament.getClubId(), tournamentId);
+        return savedTournament;
     }
 
-    public Set<Member> getTournamentParticipants(Long tournamentId) {
-        Tournament tournament = tournamentRepository.findById(tournamentId)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<TournamentDetails.Participant> getTournamentParticipants(Long tournamentId) {
+        TournamentDetails tournament = loadTournamentDetails(tournamentId)
                 .orElseThrow(() -> new TournamentNotFoundException("Tournament with ID " + tournamentId + " not found"));
 
-        return tournament.getParticipants();
+        return tournament.participants();
     }
 
     public int getParticipantCount(Long tournamentId) {
-        Tournament tournament = tournamentRepository.findById(tournamentId)
+        Tournament tournament = tournamentRepository.findByClubIdAndId(ClubContext.getClubId(), tournamentId)
                 .orElseThrow(() -> new TournamentNotFoundException("Tournament with ID " + tournamentId + " not found"));
 
-        return tournament.getParticipants().size();
+        return tournament.getRegistrations().size();
     }
 
     public boolean isMemberRegistered(Long tournamentId, Long memberId) {
-        Tournament tournament = tournamentRepository.findById(tournamentId)
+        Tournament tournament = tournamentRepository.findByClubIdAndId(ClubContext.getClubId(), tournamentId)
                 .orElseThrow(() -> new TournamentNotFoundException("Tournament with ID " + tournamentId + " not found"));
 
-        Member member = memberRepository.findById(memberId)
+        Member member = memberRepository.findByClubIdAndId(ClubContext.getClubId(), memberId)
                 .orElseThrow(() -> new MemberNotFoundException("Member with ID " + memberId + " not found"));
 
-        return tournament.getParticipants().contains(member);
+        return tournament.hasParticipant(member);
     }
 
     public List<Tournament> getUpcomingTournaments() {
-        List<Tournament> allTournaments = tournamentRepository.findAll();
-        return allTournaments.stream()
-                .filter(tournament -> tournament.getStartDate() != null &&
-                        tournament.getStartDate().isAfter(LocalDate.now()))
-                .sorted((t1, t2) -> t1.getStartDate().compareTo(t2.getStartDate()))
-                .toList();
+        TournamentSearchCriteria criteria = new TournamentSearchCriteria();
+        criteria.setStartFrom(LocalDate.now().plusDays(1));
+        criteria.setSort("startDate");
+        return searchTournaments(criteria);
     }
 
     public List<Tournament> getActiveTournaments() {
         LocalDate today = LocalDate.now();
-        List<Tournament> allTournaments = tournamentRepository.findAll();
-
-        return allTournaments.stream()
-                .filter(tournament -> {
-                    if (tournament.getStartDate() == null) return false;
+        TournamentSearchCriteria criteria = new TournamentSearchCriteria();
+        criteria.setStartTo(today);
 
-                    LocalDate endDate = tournament.getEndDate() != null ?
-                            tournament.getEndDate() : tournament.getStartDate();
+        // A tournament without an end date only runs on its start date //
+        Specification<Tournament> stillRunning = (root, query, cb) -> cb.or(
+                cb.greaterThanOrEqualTo(root.get("endDate"), today),
+                cb.and(cb.isNull(root.get("endDate")), cb.equal(root.get("startDate"), today)));
 
-                    return (tournament.getStartDate().isBefore(today) || tournament.getStartDate().isEqual(today)) &&
-                            (endDate.isAfter(today) || endDate.isEqual(today));
-                })
-                .toList();
+        return tournamentRepository.findAll(criteria.toSpecification(ClubContext.getClubId()).and(stillRunning),
+                criteria.toSort());
     }
 
     public List<Tournament> getPastTournaments() {
         LocalDate today = LocalDate.now();
-        List<Tournament> allTournaments = tournamentRepository.findAll();
-
-        return allTournaments.stream()
-                .filter(tournament -> {
-                    LocalDate endDate = tournament.getEndDate() != null ?
-                            tournament.getEndDate() : tournament.getStartDate();
-                    return endDate != null && endDate.isBefore(today);
-                })
-                .sorted((t1, t2) -> {
-                    LocalDate end1 = t1.getEndDate() != null ? t1.getEndDate() : t1.getStartDate();
-                    LocalDate end2 = t2.getEndDate() != null ? t2.getEndDate() : t2.getStartDate();
-                    return end2.compareTo(end1); // Most recent first
-                })
-                .toList();
+        TournamentSearchCriteria criteria = new TournamentSearchCriteria();
+        // End dates are never before start dates, so every finished tournament started before today //
+        criteria.setStartTo(today.minusDays(1));
+
+        // Most recent first, by end date or start date when there is no end date //
+        Specification<Tournament> finished = (root, query, cb) -> {
+            Expression<LocalDate> lastDay = cb.coalesce(root.<LocalDate>get("endDate"), root.<LocalDate>get("startDate"));
+            query.orderBy(cb.desc(lastDay));
+            return cb.lessThan(lastDay, today);
+        };
+
+        return tournamentRepository.findAll(criteria.toSpecification(ClubContext.getClubId()).and(finished));
     }
 
+    @Transactional(Transactional.TxType.SUPPORTS)
     public float calculateTotalPrizePool(Long tournamentId) {
-        Tournament tournament = tournamentRepository.findById(tournamentId)
+        TournamentDetails tournament = loadTournamentDetails(tournamentId)
                 .orElseThrow(() -> new TournamentNotFoundException("Tournament with ID " + tournamentId + " not found"));
 
-        float entryFeeTotal = tournament.getEntryFee() * tournament.getParticipants().size();
-        return entryFeeTotal + tournament.getCashPrize();
+        return tournament.totalPrizePool();
     }
 
     public List<Tournament> getTournamentsByDateRange(LocalDate startDate, LocalDate endDate) {
@@ -195,13 +232,23 @@ public class TournamentService{
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
-        List<Tournament> allTournaments = tournamentRepository.findAll();
-        return allTournaments.stream()
-                .filter(tournament -> tournament.getStartDate() != null &&
-                        !tournament.getStartDate().isBefore(startDate) &&
-                        !tournament.getStartDate().isAfter(endDate))
-                .sorted((t1, t2) -> t1.getStartDate().compareTo(t2.getStartDate()))
-                .toList();
+        TournamentSearchCriteria criteria = new TournamentSearchCriteria();
+        criteria.setStartFrom(startDate);
+        criteria.setStartTo(endDate);
+        criteria.setSort("startDate");
+        return searchTournaments(criteria);
+    }
+
+    public TournamentReadCoalescer.Stats getReadCoalescingStats() {
+        return readCoalescer.getStats(ClubContext.getClubId());
+    }
+
+    // Tournament and participants in one query, copied into an immutable result inside the
+    // transaction so concurrent identical reads never share a managed entity //
+    private Optional<TournamentDetails> loadTournamentDetails(Long tournamentId) {
+        String clubId = ClubContext.getClubId();
+        return readCoalescer.load(clubId, tournamentId, () -> readOnlyTransaction.execute(status ->
+                tournamentRepository.findWithParticipantsByClubIdAndId(clubId, tournamentId).map(TournamentDetails::from)));
     }
 
     private void validateTournament(Tournament tournament) {
@@ -241,7 +288,7 @@ public class TournamentService{
         }
 
         // Check if member is already registered //
-        if (tournament.getParticipants().contains(member)) {
+        if (tournament.hasParticipant(member)) {
             throw new IllegalArgumentException("Member is already registered for this tournament");
         }
 
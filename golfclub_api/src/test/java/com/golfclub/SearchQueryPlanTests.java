@@ -0,0 +1,242 @@
+package com.golfclub;
+
+import com.golfclub.club.ClubContext;
+import com.golfclub.member.Member;
+import com.golfclub.member.MemberRepository;
+import com.golfclub.member.MemberSearchCriteria;
+import com.golfclub.member.MemberService;
+import com.golfclub.tournament.Tournament;
+import com.golfclub.tournament.TournamentRepository;
+import com.golfclub.tournament.TournamentSearchCriteria;
+import com.golfclub.tournament.TournamentService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Captures the SQL Hibernate generates for equality and range filters and checks that the H2
+// query plan picks the club index covering that filter, not just any club_id index.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.golfclub.SearchQueryPlanTests$CapturingStatementInspector")
+class SearchQueryPlanTests {
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private TournamentService tournamentService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private TournamentRepository tournamentRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void seed() {
+		if (memberRepository.count() > 0) {
+			return;
+		}
+		List<Member> members = new ArrayList<>();
+		List<Tournament> tournaments = new ArrayList<>();
+		for (String clubId : List.of("default", "club-b", "club-c")) {
+			for (int i = 0; i < 100; i++) {
+				Member member = new Member();
+				member.setClubId(clubId);
+				member.setName("Player " + i);
+				member.setEmail(clubId + i + "@example.com");
+				member.setPhone("709555" + i);
+				member.setStartDate(LocalDate.now().minusMonths(i));
+				member.setDurationMonths(12);
+				members.add(member);
+
+				Tournament tournament = new Tournament();
+				tournament.setClubId(clubId);
+				tournament.setLocation("Course " + i % 10);
+				tournament.setStartDate(LocalDate.now().plusDays(i));
+				tournament.setEndDate(LocalDate.now().plusDays(i + 2));
+				tournament.setEntryFee(i);
+				tournament.setCashPrize(i * 10);
+				tournaments.add(tournament);
+			}
+		}
+		memberRepository.saveAll(members);
+		tournamentRepository.saveAll(tournaments);
+	}
+
+	@AfterEach
+	void clearClub() {
+		ClubContext.clear();
+	}
+
+	@Test
+	void combinedMemberFiltersReturnOnlyMatchingMembers() {
+		MemberSearchCriteria criteria = new MemberSearchCriteria();
+		criteria.setName("player 1");
+		criteria.setStartFrom(LocalDate.now().minusMonths(15));
+		criteria.setSort("startDate");
+		criteria.setOrder("desc");
+		criteria.setLimit(3);
+
+		List<Member> members = memberService.searchMembers(criteria);
+
+		assertEquals(List.of("Player 1", "Player 10", "Player 11"), members.stream().map(Member::getName).toList());
+	}
+
+	@Test
+	void wildcardCharactersInTextFiltersMatchLiterally() {
+		memberRepository.saveAll(List.of(wildcardMember("Wild a_b", "wild-underscore@example.com"),
+				wildcardMember("Wild axb", "wild-letter@example.com"),
+				wildcardMember("Wild 100%", "wild-percent@example.com"),
+				wildcardMember("Wild 1000", "wild-digits@example.com"),
+				wildcardMember("Wild c\\d", "wild-backslash@example.com")));
+
+		assertEquals(List.of("Wild a_b"), searchNames("a_b"));
+		assertEquals(List.of("Wild 100%"), searchNames("100%"));
+		assertEquals(List.of("Wild c\\d"), searchNames("c\\d"));
+
+		TournamentSearchCriteria byLocation = new TournamentSearchCriteria();
+		byLocation.setLocation("course_1");
+		assertTrue(tournamentService.searchTournaments(byLocation).isEmpty());
+	}
+
+	@Test
+	void memberEqualityFiltersUseTheirClubIndex() {
+		MemberSearchCriteria byEmail = new MemberSearchCriteria();
+		byEmail.setEmail("default1@example.com");
+		assertPlanUses("IDX_MEMBER_CLUB_EMAIL", () -> memberService.searchMembers(byEmail));
+
+		MemberSearchCriteria byNameAndPhone = new MemberSearchCriteria();
+		byNameAndPhone.setName("player");
+		byNameAndPhone.setPhone("7095551");
+		assertPlanUses("IDX_MEMBER_CLUB_PHONE", () -> memberService.searchMembers(byNameAndPhone));
+	}
+
+	@Test
+	void tournamentStartDateFilterUsesTheClubStartIndex() {
+		TournamentSearchCriteria byStartDate = new TournamentSearchCriteria();
+		byStartDate.setStartDate(LocalDate.now().plusDays(1));
+		assertPlanUses("IDX_TOURNAMENT_CLUB_START", () -> tournamentService.searchTournaments(byStartDate));
+
+		TournamentSearchCriteria byLocationAndStartDate = new TournamentSearchCriteria();
+		byLocationAndStartDate.setLocation("course 1");
+		byLocationAndStartDate.setStartDate(LocalDate.now().plusDays(1));
+		assertPlanUses("IDX_TOURNAMENT_CLUB_START", () -> tournamentService.searchTournaments(byLocationAndStartDate));
+	}
+
+	@Test
+	void activeAndPastTournamentsAreFilteredByTheDatabase() {
+		LocalDate today = LocalDate.now();
+		tournamentRepository.saveAll(List.of(
+				seasonTournament("Last Week", today.minusDays(10), today.minusDays(7)),
+				seasonTournament("Yesterday", today.minusDays(1), null),
+				seasonTournament("Running", today.minusDays(2), today.plusDays(1)),
+				seasonTournament("Today", today, null),
+				seasonTournament("Next Week", today.plusDays(7), today.plusDays(8))));
+		ClubContext.setClubId("season-club");
+
+		assertEquals(List.of("Running", "Today"),
+				tournamentService.getActiveTournaments().stream().map(Tournament::getLocation).toList());
+		assertEquals(List.of("Yesterday", "Last Week"),
+				tournamentService.getPastTournaments().stream().map(Tournament::getLocation).toList());
+	}
+
+	private Tournament seasonTournament(String location, LocalDate startDate, LocalDate endDate) {
+		Tournament tournament = new Tournament();
+		tournament.setClubId("season-club");
+		tournament.setLocation(location);
+		tournament.setStartDate(startDate);
+		tournament.setEndDate(endDate);
+		return tournament;
+	}
+
+	private List<String> searchNames(String name) {
+		MemberSearchCriteria criteria = new MemberSearchCriteria();
+		criteria.setName(name);
+		return memberService.searchMembers(criteria).stream().map(Member::getName).toList();
+	}
+
+	private Member wildcardMember(String name, String email) {
+		Member member = new Member();
+		member.setClubId("default");
+		member.setName(name);
+		member.setEmail(email);
+		member.setStartDate(LocalDate.now());
+		member.setDurationMonths(12);
+		return member;
+	}
+
+	@Test
+	void memberExpiryRangeUsesTheClubExpiryIndex() {
+		MemberSearchCriteria expiringSoon = new MemberSearchCriteria();
+		expiringSoon.setExpiresFrom(LocalDate.now());
+		expiringSoon.setExpiresTo(LocalDate.now().plusMonths(1));
+		assertPlanUses("IDX_MEMBER_CLUB_EXPIRY", () -> memberService.searchMembers(expiringSoon));
+
+		MemberSearchCriteria expiredBefore = new MemberSearchCriteria();
+		expiredBefore.setExpiresTo(LocalDate.now());
+		assertPlanUses("IDX_MEMBER_CLUB_EXPIRY", () -> memberService.searchMembers(expiredBefore));
+	}
+
+	@Test
+	void tournamentRangeFiltersUseTheirClubIndex() {
+		TournamentSearchCriteria byMinEntryFee = new TournamentSearchCriteria();
+		byMinEntryFee.setMinEntryFee(90f);
+		assertPlanUses("IDX_TOURNAMENT_CLUB_FEE", () -> tournamentService.searchTournaments(byMinEntryFee));
+
+		TournamentSearchCriteria byCashPrize = new TournamentSearchCriteria();
+		byCashPrize.setMinCashPrize(500f);
+		byCashPrize.setMaxCashPrize(600f);
+		assertPlanUses("IDX_TOURNAMENT_CLUB_PRIZE", () -> tournamentService.searchTournaments(byCashPrize));
+
+		TournamentSearchCriteria byEndDates = new TournamentSearchCriteria();
+		byEndDates.setEndFrom(LocalDate.now().plusDays(10));
+		byEndDates.setEndTo(LocalDate.now().plusDays(20));
+		assertPlanUses("IDX_TOURNAMENT_CLUB_END", () -> tournamentService.searchTournaments(byEndDates));
+
+		TournamentSearchCriteria byEndFrom = new TournamentSearchCriteria();
+		byEndFrom.setEndFrom(LocalDate.now().plusDays(95));
+		assertPlanUses("IDX_TOURNAMENT_CLUB_END", () -> tournamentService.searchTournaments(byEndFrom));
+	}
+
+	// Every filter is led by club_id, so only the chosen index shows whether the filter itself is indexed //
+	private void assertPlanUses(String index, Runnable search) {
+		CapturingStatementInspector.STATEMENTS.clear();
+		search.run();
+
+		List<String> selects = CapturingStatementInspector.STATEMENTS.stream()
+				.filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+				.toList();
+		assertEquals(1, selects.size(), "Expected one select statement: " + selects);
+
+		// Plain EXPLAIN does not need the statement's parameters to be bound //
+		String sql = selects.get(0);
+		String plan = jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+				rs -> rs.next() ? rs.getString(1) : "");
+		assertTrue(plan.toUpperCase().contains(index), "Expected " + index + " for: " + sql + "\n" + plan);
+	}
+
+	public static class CapturingStatementInspector implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
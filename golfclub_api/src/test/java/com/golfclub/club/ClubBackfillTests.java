@@ -0,0 +1,76 @@
+package com.golfclub.club;
+
+import com.golfclub.member.Member;
+import com.golfclub.member.MemberService;
+import com.golfclub.tournament.Tournament;
+import com.golfclub.tournament.TournamentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ClubBackfillTests {
+
+	@Autowired
+	private ClubBackfill clubBackfill;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private TournamentService tournamentService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void clearClub() {
+		ClubContext.clear();
+	}
+
+	@Test
+	void rowsWithoutClubAreAssignedToTheDefaultClub() {
+		ClubContext.setClubId("backfill-owner");
+		Member member = memberService.createMember(member());
+		Tournament tournament = tournamentService.createTournament(tournament());
+		tournamentService.addMemberToTournament(tournament.getId(), member.getId());
+
+		// Blank the club the way rows written before clubs existed look //
+		jdbcTemplate.update("update member set club_id = '' where id = ?", member.getId());
+		jdbcTemplate.update("update tournament set club_id = '' where id = ?", tournament.getId());
+		jdbcTemplate.update("update tournament_participants set club_id = '' where tournament_id = ?", tournament.getId());
+
+		clubBackfill.run(null);
+		clubBackfill.run(null);
+
+		ClubContext.setClubId(ClubContext.DEFAULT_CLUB_ID);
+		assertTrue(memberService.getMemberById(member.getId()).isPresent());
+		assertTrue(tournamentService.isMemberRegistered(tournament.getId(), member.getId()));
+		assertEquals(ClubContext.DEFAULT_CLUB_ID, jdbcTemplate.queryForObject(
+				"select club_id from tournament_participants where tournament_id = ?", String.class, tournament.getId()));
+	}
+
+	private Member member() {
+		Member member = new Member();
+		member.setName("Legacy Member");
+		member.setEmail("legacy-club@example.com");
+		member.setStartDate(LocalDate.now());
+		member.setDurationMonths(12);
+		return member;
+	}
+
+	private Tournament tournament() {
+		Tournament tournament = new Tournament();
+		tournament.setStartDate(LocalDate.now().plusDays(7));
+		tournament.setLocation("Legacy Links");
+		tournament.setEntryFee(50);
+		tournament.setCashPrize(500);
+		return tournament;
+	}
+}
@@ -0,0 +1,75 @@
+package com.golfclub.club;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ClubContextFilterTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void eachClubOnlySeesItsOwnMembers() throws Exception {
+		createMember("filter-club-a", "alice@example.com");
+		createMember("filter-club-a", "adam@example.com");
+		createMember("filter-club-b", "bob@example.com");
+
+		mockMvc.perform(get("/members").header(ClubContextFilter.CLUB_HEADER, "filter-club-a"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(2)))
+				.andExpect(jsonPath("$[0].clubId").value("filter-club-a"));
+
+		mockMvc.perform(get("/members").header(ClubContextFilter.CLUB_HEADER, "filter-club-b"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(1)))
+				.andExpect(jsonPath("$[0].email").value("bob@example.com"));
+	}
+
+	@Test
+	void clubFromRequestBodyIsIgnored() throws Exception {
+		mockMvc.perform(post("/members")
+						.header(ClubContextFilter.CLUB_HEADER, "filter-club-c")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\":\"Carol\",\"email\":\"carol@example.com\",\"clubId\":\"filter-club-d\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.clubId").value("filter-club-c"));
+
+		mockMvc.perform(get("/members").header(ClubContextFilter.CLUB_HEADER, "filter-club-d"))
+				.andExpect(jsonPath("$", hasSize(0)));
+	}
+
+	@Test
+	void invalidClubIdIsRejected() throws Exception {
+		mockMvc.perform(get("/members").header(ClubContextFilter.CLUB_HEADER, "not a club!"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void clubIsClearedAfterTheRequest() throws Exception {
+		mockMvc.perform(get("/members").header(ClubContextFilter.CLUB_HEADER, "filter-club-a"))
+				.andExpect(status().isOk());
+
+		assertEquals(ClubContext.DEFAULT_CLUB_ID, ClubContext.getClubId());
+	}
+
+	private void createMember(String clubId, String email) throws Exception {
+		mockMvc.perform(post("/members")
+						.header(ClubContextFilter.CLUB_HEADER, clubId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\":\"Member\",\"email\":\"" + email + "\"}"))
+				.andExpect(status().isOk());
+	}
+}
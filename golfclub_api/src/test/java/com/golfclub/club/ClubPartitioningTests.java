@@ -0,0 +1,77 @@
+package com.golfclub.club;
+
+import com.golfclub.member.Member;
+import com.golfclub.member.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ClubPartitioningTests {
+
+	private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void smallClubQueryCostDoesNotGrowWithLargeClub() {
+		saveMembers("small-club", 10);
+		long rowsScannedBefore = scanCount("small-club");
+
+		saveMembers("large-club", 5000);
+		String plan = explain("small-club");
+		long rowsScannedAfter = scanCount("small-club");
+
+		assertFalse(plan.contains("tableScan"), "Club query fell back to a full table scan: " + plan);
+		assertEquals(rowsScannedBefore, rowsScannedAfter);
+		assertTrue(rowsScannedAfter <= 11, "Small club query scanned " + rowsScannedAfter + " rows");
+		assertEquals(10, memberRepository.findByClubId("small-club").size());
+	}
+
+	@Test
+	void clubsCannotSeeEachOthersMembers() {
+		saveMembers("club-a", 1);
+
+		assertEquals(1, memberRepository.findByClubIdAndEmail("club-a", "club-a-0@example.com").size());
+		assertTrue(memberRepository.findByClubIdAndEmail("club-b", "club-a-0@example.com").isEmpty());
+	}
+
+	private void saveMembers(String clubId, int count) {
+		List<Member> members = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Member member = new Member();
+			member.setClubId(clubId);
+			member.setName("Member " + i);
+			member.setEmail(clubId + "-" + i + "@example.com");
+			member.setStartDate(LocalDate.now());
+			member.setDurationMonths(12);
+			members.add(member);
+		}
+		memberRepository.saveAll(members);
+	}
+
+	private String explain(String clubId) {
+		return jdbcTemplate.queryForObject(
+				"EXPLAIN ANALYZE SELECT * FROM member WHERE club_id = '" + clubId + "'", String.class);
+	}
+
+	private long scanCount(String clubId) {
+		String plan = explain(clubId);
+		Matcher matcher = SCAN_COUNT.matcher(plan);
+		assertTrue(matcher.find(), "No scan count in plan: " + plan);
+		return Long.parseLong(matcher.group(1));
+	}
+}
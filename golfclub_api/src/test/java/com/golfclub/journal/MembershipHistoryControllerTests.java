@@ -0,0 +1,42 @@
+package com.golfclub.journal;
+
+import com.golfclub.club.ClubContextFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MembershipHistoryControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void missingSnapshotIsNotFoundAndTimesBeforeHistoryAreBadRequests() throws Exception {
+		mockMvc.perform(post("/members")
+						.header(ClubContextFilter.CLUB_HEADER, "audit-club")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\":\"Audit Member\",\"email\":\"audit@example.com\",\"durationMonths\":12}"))
+				.andExpect(status().isOk());
+
+		mockMvc.perform(get("/audit/members/{id}", Long.MAX_VALUE)
+						.header(ClubContextFilter.CLUB_HEADER, "audit-club")
+						.param("at", Instant.now().plusSeconds(60).toString()))
+				.andExpect(status().isNotFound());
+
+		mockMvc.perform(get("/audit/members/{id}", Long.MAX_VALUE)
+						.header(ClubContextFilter.CLUB_HEADER, "audit-club")
+						.param("at", Instant.EPOCH.toString()))
+				.andExpect(status().isBadRequest());
+	}
+}
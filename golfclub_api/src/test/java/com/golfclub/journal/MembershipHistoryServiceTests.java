@@ -0,0 +1,188 @@
+package com.golfclub.journal;
+
+import com.golfclub.club.ClubContext;
+import com.golfclub.member.Member;
+import com.golfclub.member.MemberService;
+import com.golfclub.tournament.Tournament;
+import com.golfclub.tournament.TournamentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MembershipHistoryServiceTests {
+
+	@Autowired
+	private MembershipHistoryService membershipHistoryService;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private TournamentService tournamentService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JournalBaseline journalBaseline;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void useTestClub() {
+		ClubContext.setClubId("history-club");
+	}
+
+	@AfterEach
+	void clearClub() {
+		ClubContext.clear();
+	}
+
+	@Test
+	void memberAsOfReturnsTheSnapshotRecordedAtThatTime() throws Exception {
+		// Makes sure the journal's history has started before the instant taken below //
+		memberService.createMember(member("asof-earlier@example.com", LocalDate.now(), 12));
+		Instant beforeCreate = pause();
+		Member member = memberService.createMember(member("asof@example.com", LocalDate.now(), 12));
+		Instant afterCreate = pause();
+
+		member.setName("Renamed Member");
+		memberService.updateMember(member.getId(), member);
+		Instant afterUpdate = pause();
+
+		memberService.deleteMember(member.getId());
+
+		assertTrue(membershipHistoryService.getMemberAsOf(member.getId(), beforeCreate).isEmpty());
+		assertEquals("History Member", membershipHistoryService.getMemberAsOf(member.getId(), afterCreate).orElseThrow().name());
+		assertEquals("Renamed Member", membershipHistoryService.getMemberAsOf(member.getId(), afterUpdate).orElseThrow().name());
+		assertTrue(membershipHistoryService.getMemberAsOf(member.getId(), Instant.now()).isEmpty());
+	}
+
+	@Test
+	void membersActiveOnExcludesExpiredDeletedAndOtherClubMembers() {
+		Member active = memberService.createMember(member("active@example.com", LocalDate.now().minusMonths(1), 12));
+		memberService.createMember(member("expired@example.com", LocalDate.now().minusYears(2), 12));
+		Member deleted = memberService.createMember(member("deleted@example.com", LocalDate.now(), 12));
+		memberService.deleteMember(deleted.getId());
+
+		ClubContext.setClubId("other-history-club");
+		memberService.createMember(member("other@example.com", LocalDate.now(), 12));
+		ClubContext.setClubId("history-club");
+
+		List<MemberSnapshot> members = membershipHistoryService.getMembersActiveOn(LocalDate.now());
+		assertEquals(List.of(active.getId()), members.stream().map(MemberSnapshot::memberId).toList());
+	}
+
+	@Test
+	void tournamentParticipantsAsOfReplaysRegistrations() throws Exception {
+		Member member = memberService.createMember(member("participant@example.com", LocalDate.now(), 12));
+		Tournament tournament = tournamentService.createTournament(tournament());
+
+		tournamentService.addMemberToTournament(tournament.getId(), member.getId());
+		Instant afterAdd = pause();
+		tournamentService.removeMemberFromTournament(tournament.getId(), member.getId());
+		Instant afterRemove = pause();
+
+		assertEquals(Set.of(member.getId()), membershipHistoryService.getTournamentParticipantsAsOf(tournament.getId(), afterAdd));
+		assertEquals(Set.of(), membershipHistoryService.getTournamentParticipantsAsOf(tournament.getId(), afterRemove));
+	}
+
+	@Test
+	void membersFromBeforeTheJournalGetABaselineSnapshot() throws Exception {
+		// Written directly, the way members created before the journal existed look //
+		jdbcTemplate.update("insert into member (club_id, name, email, start_date, duration_months, expiry_date) "
+						+ "values (?, ?, ?, ?, ?, ?)", "baseline-club", "Legacy Member", "legacy-history@example.com",
+				LocalDate.now().minusMonths(1), 12, LocalDate.now().plusMonths(11));
+		Long legacyId = jdbcTemplate.queryForObject("select id from member where email = ?", Long.class,
+				"legacy-history@example.com");
+
+		journalBaseline.recordBaseline();
+		journalBaseline.recordBaseline();
+
+		ClubContext.setClubId("baseline-club");
+		assertEquals(List.of(JournalEntryType.MEMBER_BASELINE),
+				membershipHistoryService.getMemberHistory(legacyId).stream().map(JournalEntry::type).toList());
+		assertTrue(membershipHistoryService.getMembersActiveOn(LocalDate.now()).stream()
+				.anyMatch(member -> member.memberId().equals(legacyId)));
+	}
+
+	@Test
+	void queriesBeforeTheJournalStartedAreRejected() {
+		Member member = memberService.createMember(member("before@example.com", LocalDate.now(), 12));
+
+		assertThrows(HistoryNotRecordedException.class,
+				() -> membershipHistoryService.getMemberAsOf(member.getId(), Instant.EPOCH));
+		assertThrows(HistoryNotRecordedException.class,
+				() -> membershipHistoryService.getMembersActiveOn(LocalDate.of(1970, 1, 1)));
+	}
+
+	@Test
+	void rolledBackUpdateLeavesNoJournalEntry() {
+		Member member = memberService.createMember(member("rollback@example.com", LocalDate.now(), 12));
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Member update = member("rollback@example.com", LocalDate.now(), 24);
+			memberService.updateMember(member.getId(), update);
+			status.setRollbackOnly();
+		});
+
+		assertEquals(List.of(JournalEntryType.MEMBER_CREATED),
+				membershipHistoryService.getMemberHistory(member.getId()).stream().map(JournalEntry::type).toList());
+	}
+
+	@Test
+	void historySurvivesCompaction() throws Exception {
+		Member member = memberService.createMember(member("compact@example.com", LocalDate.now(), 12));
+		memberService.updateMember(member.getId(), member);
+		member.setDurationMonths(24);
+		memberService.updateMember(member.getId(), member);
+		Instant afterUpdates = pause();
+
+		membershipHistoryService.compact();
+
+		assertEquals(List.of(JournalEntryType.MEMBER_CREATED, JournalEntryType.MEMBER_UPDATED),
+				membershipHistoryService.getMemberHistory(member.getId()).stream().map(JournalEntry::type).toList());
+		assertEquals(24, membershipHistoryService.getMemberAsOf(member.getId(), afterUpdates).orElseThrow().durationMonths());
+	}
+
+	// Keeps journal timestamps on either side of the returned instant apart //
+	private Instant pause() throws InterruptedException {
+		Thread.sleep(5);
+		Instant now = Instant.now();
+		Thread.sleep(5);
+		return now;
+	}
+
+	private Member member(String email, LocalDate startDate, int durationMonths) {
+		Member member = new Member();
+		member.setName("History Member");
+		member.setEmail(email);
+		member.setStartDate(startDate);
+		member.setDurationMonths(durationMonths);
+		return member;
+	}
+
+	private Tournament tournament() {
+		Tournament tournament = new Tournament();
+		tournament.setStartDate(LocalDate.now().plusDays(7));
+		tournament.setEndDate(LocalDate.now().plusDays(8));
+		tournament.setLocation("History Links");
+		tournament.setEntryFee(50);
+		tournament.setCashPrize(500);
+		return tournament;
+	}
+}
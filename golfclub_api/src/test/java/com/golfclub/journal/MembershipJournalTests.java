@@ -0,0 +1,91 @@
+package com.golfclub.journal;
+
+import com.golfclub.member.Member;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MembershipJournalTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void entriesSurviveSegmentRollCompactionAndRestart() throws Exception {
+		MembershipJournal journal = new MembershipJournal(directory.toString(), 4096, 16);
+		journal.start();
+
+		Member member = member(12);
+		journal.record(JournalEntry.forMember(JournalEntryType.MEMBER_CREATED, member));
+		for (int i = 0; i < 100; i++) {
+			journal.record(JournalEntry.forMember(JournalEntryType.MEMBER_UPDATED, member));
+		}
+		member.setDurationMonths(24);
+		journal.record(JournalEntry.forMember(JournalEntryType.MEMBER_RENEWED, member));
+		assertEquals(102, journal.readAll().size());
+
+		MembershipJournal.CompactionResult result = journal.compact();
+		assertEquals(1, result.segmentsAfter());
+		assertEquals(100, result.entriesDropped());
+		journal.stop();
+
+		MembershipJournal reopened = new MembershipJournal(directory.toString(), 4096, 16);
+		reopened.start();
+		reopened.record(JournalEntry.forMember(JournalEntryType.MEMBER_DELETED, member));
+		List<JournalEntry> entries = reopened.readAll();
+		reopened.stop();
+
+		assertEquals(List.of(JournalEntryType.MEMBER_CREATED, JournalEntryType.MEMBER_RENEWED, JournalEntryType.MEMBER_DELETED),
+				entries.stream().map(JournalEntry::type).toList());
+		assertEquals(24, entries.get(1).durationMonths());
+		assertTrue(entries.get(2).sequence() > entries.get(1).sequence());
+	}
+
+	@Test
+	void failedSegmentRollIsRetriedAndReportedUntilItSucceeds() throws Exception {
+		MembershipJournal journal = new MembershipJournal(directory.toString(), 4096, 16);
+		journal.start();
+		Member member = member(12);
+
+		// Directories named like the next segments make opening a new segment fail //
+		List<Path> blockers = new ArrayList<>();
+		for (long sequence = 2; sequence <= 101; sequence++) {
+			blockers.add(Files.createDirectory(directory.resolve(String.format("segment-%020d.log", sequence))));
+		}
+		for (int i = 0; i < 100; i++) {
+			journal.record(JournalEntry.forMember(JournalEntryType.MEMBER_UPDATED, member));
+		}
+		assertThrows(JournalUnavailableException.class, journal::flush);
+		assertFalse(journal.isHealthy());
+
+		for (Path blocker : blockers) {
+			Files.delete(blocker);
+		}
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!journal.isHealthy() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		journal.flush();
+		assertTrue(journal.isHealthy());
+		assertEquals(100, journal.readMemberHistory("club", 1L).size());
+		journal.stop();
+	}
+
+	private Member member(int durationMonths) {
+		Member member = new Member();
+		member.setId(1L);
+		member.setClubId("club");
+		member.setName("Jane Doe");
+		member.setEmail("jane@example.com");
+		member.setStartDate(LocalDate.of(2024, 1, 1));
+		member.setDurationMonths(durationMonths);
+		return member;
+	}
+}
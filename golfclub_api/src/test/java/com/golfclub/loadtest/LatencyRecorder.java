@@ -0,0 +1,51 @@
+package com.golfclub.loadtest;
+
+import java.util.Arrays;
+
+// Collects latencies (in microseconds), error and unfinished counts for one operation //
+class LatencyRecorder {
+
+	private long[] latencies = new long[1024];
+	private int count;
+	private long errors;
+	private long unfinished;
+
+	synchronized void record(long latencyMicros, boolean error) {
+		if (count == latencies.length) {
+			latencies = Arrays.copyOf(latencies, latencies.length * 2);
+		}
+		latencies[count++] = latencyMicros;
+		if (error) {
+			errors++;
+		}
+	}
+
+	// A request with no response by the end of the run: an error, timed until the run ended //
+	synchronized void recordUnfinished(long elapsedMicros) {
+		record(elapsedMicros, true);
+		unfinished++;
+	}
+
+	synchronized long[] snapshot() {
+		long[] sorted = Arrays.copyOf(latencies, count);
+		Arrays.sort(sorted);
+		return sorted;
+	}
+
+	synchronized long getErrors() {
+		return errors;
+	}
+
+	synchronized long getUnfinished() {
+		return unfinished;
+	}
+
+	// Nearest-rank percentile over an already sorted array //
+	static long percentile(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+	}
+}
@@ -0,0 +1,242 @@
+package com.golfclub.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-loop load generator: requests are issued on a fixed schedule regardless of how
+// quickly earlier ones complete, and latency is measured from the scheduled start so
+// a slow server cannot hide queueing delay (no coordinated omission).
+class LoadGenerator {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+	private static final double HOT_TOURNAMENT_SHARE = 0.8;
+
+	private final String baseUrl;
+	private final LoadTestConfig config;
+	private final List<Long> memberIds;
+	private final List<Long> tournamentIds;
+	private final HttpClient httpClient;
+	private final SplittableRandom random = new SplittableRandom(42);
+	private final AtomicLong registrationSequence = new AtomicLong();
+	private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+
+	LoadGenerator(String baseUrl, LoadTestConfig config, List<Long> memberIds, List<Long> tournamentIds) {
+		this.baseUrl = baseUrl;
+		this.config = config;
+		this.memberIds = memberIds;
+		this.tournamentIds = tournamentIds;
+		this.httpClient = HttpClient.newBuilder()
+				.connectTimeout(REQUEST_TIMEOUT)
+				.build();
+		for (Operation operation : Operation.values()) {
+			recorders.put(operation, new LatencyRecorder());
+		}
+	}
+
+	Map<String, Object> run() throws InterruptedException {
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getTargetRatePerSecond();
+		long warmupRequests = (long) config.getTargetRatePerSecond() * config.getWarmupSeconds();
+		long totalRequests = warmupRequests + (long) config.getTargetRatePerSecond() * config.getDurationSeconds();
+		List<ScheduledRequest> measuredRequests = new ArrayList<>();
+		List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+
+		long start = System.nanoTime();
+		long measuredStart = start + warmupRequests * intervalNanos;
+		for (long i = 0; i < totalRequests; i++) {
+			long intendedStart = start + i * intervalNanos;
+			long wait;
+			while ((wait = intendedStart - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			ScheduledRequest request = new ScheduledRequest(pickOperation(), intendedStart, i >= warmupRequests);
+			if (request.measured) {
+				measuredRequests.add(request);
+			}
+			inFlight.add(send(request));
+		}
+		long issueNanos = System.nanoTime() - measuredStart;
+
+		try {
+			CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]))
+					.get(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS);
+		} catch (TimeoutException | java.util.concurrent.ExecutionException e) {
+			// Requests still pending are counted as unfinished below //
+		}
+
+		long end = System.nanoTime();
+		for (ScheduledRequest request : measuredRequests) {
+			if (request.recorded.compareAndSet(false, true)) {
+				recorders.get(request.operation).recordUnfinished(TimeUnit.NANOSECONDS.toMicros(end - request.intendedStart));
+			}
+		}
+
+		return buildReport(measuredRequests.size(), issueNanos, end - measuredStart);
+	}
+
+	private CompletableFuture<Void> send(ScheduledRequest scheduled) {
+		HttpRequest request = buildRequest(scheduled.operation);
+		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.handle((response, failure) -> {
+					// Only the first of the response and the end of the run records the request //
+					if (scheduled.measured && scheduled.recorded.compareAndSet(false, true)) {
+						long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled.intendedStart);
+						boolean error = failure != null || response.statusCode() >= 400;
+						recorders.get(scheduled.operation).record(latencyMicros, error);
+					}
+					return null;
+				});
+	}
+
+	private static final class ScheduledRequest {
+		private final Operation operation;
+		private final long intendedStart;
+		private final boolean measured;
+		private final AtomicBoolean recorded = new AtomicBoolean();
+
+		private ScheduledRequest(Operation operation, long intendedStart, boolean measured) {
+			this.operation = operation;
+			this.intendedStart = intendedStart;
+			this.measured = measured;
+		}
+	}
+
+	private HttpRequest buildRequest(Operation operation) {
+		HttpRequest.Builder builder;
+		switch (operation) {
+			case MEMBER_SEARCH -> builder = get("/members?name=" + encode("Member " + random.nextInt(memberIds.size())));
+			case TOURNAMENT_SEARCH -> builder = get("/tournaments?location=" + encode("Course " + random.nextInt(10)));
+			case TOURNAMENT_GET -> builder = get("/tournaments/" + pickTournament());
+			case TOURNAMENT_MEMBERS -> builder = get("/tournaments/" + pickTournament() + "/members");
+			case PRIZE_POOL -> builder = get("/tournaments/" + pickTournament() + "/prize-pool");
+			case REGISTRATION -> {
+				// Walk member/tournament pairs in order so every registration is a new one //
+				long sequence = registrationSequence.getAndIncrement();
+				Long memberId = memberIds.get((int) (sequence % memberIds.size()));
+				Long tournamentId = tournamentIds.get((int) ((sequence / memberIds.size()) % tournamentIds.size()));
+				builder = HttpRequest.newBuilder(URI.create(baseUrl + "/tournaments/" + tournamentId + "/members/" + memberId))
+						.POST(HttpRequest.BodyPublishers.noBody());
+			}
+			default -> throw new IllegalStateException("Unhandled operation " + operation);
+		}
+		return builder
+				.header("X-Club-Id", config.getClubId())
+				.timeout(REQUEST_TIMEOUT)
+				.build();
+	}
+
+	private HttpRequest.Builder get(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+	}
+
+	private Operation pickOperation() {
+		int total = config.getMix().values().stream().mapToInt(Integer::intValue).sum();
+		int pick = random.nextInt(total);
+		for (Map.Entry<Operation, Integer> entry : config.getMix().entrySet()) {
+			pick -= entry.getValue();
+			if (pick < 0) {
+				return entry.getKey();
+			}
+		}
+		throw new IllegalStateException("Mix weights changed during the run");
+	}
+
+	// Most traffic goes to a small set of popular tournaments, like it does when one opens //
+	private Long pickTournament() {
+		int hotSetSize = Math.max(1, tournamentIds.size() / 10);
+		if (random.nextDouble() < HOT_TOURNAMENT_SHARE) {
+			return tournamentIds.get(random.nextInt(hotSetSize));
+		}
+		return tournamentIds.get(random.nextInt(tournamentIds.size()));
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	private Map<String, Object> buildReport(long issuedRequests, long issueNanos, long measuredNanos) {
+		double issueSeconds = issueNanos / 1_000_000_000.0;
+		double measuredSeconds = measuredNanos / 1_000_000_000.0;
+		List<Long> allLatencies = new ArrayList<>();
+		long totalErrors = 0;
+		long totalUnfinished = 0;
+		Map<String, Object> operations = new LinkedHashMap<>();
+
+		for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+			long[] latencies = entry.getValue().snapshot();
+			if (latencies.length == 0) {
+				continue;
+			}
+			long errors = entry.getValue().getErrors();
+			long unfinished = entry.getValue().getUnfinished();
+			totalErrors += errors;
+			totalUnfinished += unfinished;
+			for (long latency : latencies) {
+				allLatencies.add(latency);
+			}
+			operations.put(entry.getKey().getKey(), summarize(latencies, errors, unfinished, measuredSeconds));
+		}
+
+		long[] combined = allLatencies.stream().mapToLong(Long::longValue).sorted().toArray();
+
+		Map<String, Object> settings = new LinkedHashMap<>();
+		settings.put("members", config.getMembers());
+		settings.put("tournaments", config.getTournaments());
+		settings.put("targetRatePerSecond", config.getTargetRatePerSecond());
+		settings.put("warmupSeconds", config.getWarmupSeconds());
+		settings.put("durationSeconds", config.getDurationSeconds());
+		Map<String, Integer> mix = new LinkedHashMap<>();
+		config.getMix().forEach((operation, weight) -> mix.put(operation.getKey(), weight));
+		settings.put("mix", mix);
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("config", settings);
+		report.put("measuredSeconds", measuredSeconds);
+		report.put("targetRatePerSecond", config.getTargetRatePerSecond());
+		// Below target when the generator itself could not keep up with the schedule //
+		report.put("achievedRatePerSecond", issueSeconds <= 0 ? 0.0 : issuedRequests / issueSeconds);
+		report.put("totalRequests", issuedRequests);
+		report.put("unfinishedRequests", totalUnfinished);
+		report.put("overall", summarize(combined, totalErrors, totalUnfinished, measuredSeconds));
+		report.put("operations", operations);
+		return report;
+	}
+
+	// Latencies include unfinished requests, timed until the end of the run //
+	private static Map<String, Object> summarize(long[] sortedLatencies, long errors, long unfinished,
+	                                             double measuredSeconds) {
+		long completed = sortedLatencies.length - unfinished;
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("requests", sortedLatencies.length);
+		summary.put("completed", completed);
+		summary.put("unfinished", unfinished);
+		summary.put("errors", errors);
+		summary.put("errorRate", sortedLatencies.length == 0 ? 0.0 : (double) errors / sortedLatencies.length);
+		summary.put("throughputPerSecond", measuredSeconds <= 0 ? 0.0 : completed / measuredSeconds);
+		summary.put("p50Millis", toMillis(LatencyRecorder.percentile(sortedLatencies, 50)));
+		summary.put("p99Millis", toMillis(LatencyRecorder.percentile(sortedLatencies, 99)));
+		summary.put("p999Millis", toMillis(LatencyRecorder.percentile(sortedLatencies, 99.9)));
+		summary.put("maxMillis", toMillis(sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length - 1]));
+		return summary;
+	}
+
+	private static double toMillis(long micros) {
+		return micros / 1000.0;
+	}
+}
@@ -0,0 +1,83 @@
+package com.golfclub.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Load test settings, read from -Dloadtest.* system properties //
+class LoadTestConfig {
+
+	static final String DEFAULT_MIX = "member-search=25,tournament-search=15,tournament-get=15,"
+			+ "tournament-members=10,registration=10,prize-pool=25";
+
+	private final int members;
+	private final int tournaments;
+	private final int targetRatePerSecond;
+	private final int warmupSeconds;
+	private final int durationSeconds;
+	private final String clubId;
+	private final Map<Operation, Integer> mix;
+	private final Path reportFile;
+
+	LoadTestConfig(int members, int tournaments, int targetRatePerSecond, int warmupSeconds, int durationSeconds,
+				   String clubId, Map<Operation, Integer> mix, Path reportFile) {
+		if (members <= 0 || tournaments <= 0) {
+			throw new IllegalArgumentException("Members and tournaments to seed must be positive");
+		}
+		if (targetRatePerSecond <= 0 || durationSeconds <= 0 || warmupSeconds < 0) {
+			throw new IllegalArgumentException("Rate and duration must be positive");
+		}
+		this.members = members;
+		this.tournaments = tournaments;
+		this.targetRatePerSecond = targetRatePerSecond;
+		this.warmupSeconds = warmupSeconds;
+		this.durationSeconds = durationSeconds;
+		this.clubId = clubId;
+		this.mix = mix;
+		this.reportFile = reportFile;
+	}
+
+	static LoadTestConfig fromSystemProperties() {
+		return new LoadTestConfig(
+				Integer.getInteger("loadtest.members", 1000),
+				Integer.getInteger("loadtest.tournaments", 50),
+				Integer.getInteger("loadtest.rate", 200),
+				Integer.getInteger("loadtest.warmupSeconds", 5),
+				Integer.getInteger("loadtest.durationSeconds", 30),
+				System.getProperty("loadtest.clubId", "loadtest"),
+				parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+				Path.of(System.getProperty("loadtest.report", "target/loadtest/report.json")));
+	}
+
+	// Parses "member-search=25,prize-pool=75" into relative operation weights //
+	static Map<Operation, Integer> parseMix(String mix) {
+		Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+		for (String entry : mix.split(",")) {
+			if (entry.trim().isEmpty()) {
+				continue;
+			}
+			String[] parts = entry.split("=");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Invalid mix entry: " + entry);
+			}
+			int weight = Integer.parseInt(parts[1].trim());
+			if (weight < 0) {
+				throw new IllegalArgumentException("Mix weight cannot be negative: " + entry);
+			}
+			weights.put(Operation.fromKey(parts[0].trim()), weight);
+		}
+		if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+			throw new IllegalArgumentException("Mix must contain at least one operation with a positive weight");
+		}
+		return weights;
+	}
+
+	int getMembers() { return members; }
+	int getTournaments() { return tournaments; }
+	int getTargetRatePerSecond() { return targetRatePerSecond; }
+	int getWarmupSeconds() { return warmupSeconds; }
+	int getDurationSeconds() { return durationSeconds; }
+	String getClubId() { return clubId; }
+	Map<Operation, Integer> getMix() { return mix; }
+	Path getReportFile() { return reportFile; }
+}
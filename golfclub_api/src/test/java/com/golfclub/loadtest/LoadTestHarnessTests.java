@@ -0,0 +1,86 @@
+package com.golfclub.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfclub.member.Member;
+import com.golfclub.member.MemberRepository;
+import com.golfclub.tournament.Tournament;
+import com.golfclub.tournament.TournamentRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the REST load test against embedded H2. Excluded from the normal build;
+// run with: mvn test -Ploadtest -Dloadtest.rate=500 -Dloadtest.durationSeconds=60
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTestHarnessTests {
+
+	private static final Logger log = LoggerFactory.getLogger(LoadTestHarnessTests.class);
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private TournamentRepository tournamentRepository;
+
+	@Test
+	void runConfiguredWorkload() throws Exception {
+		LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+		List<Long> memberIds = seedMembers(config);
+		List<Long> tournamentIds = seedTournaments(config);
+
+		LoadGenerator generator = new LoadGenerator("http://localhost:" + port, config, memberIds, tournamentIds);
+		Map<String, Object> report = generator.run();
+
+		Files.createDirectories(config.getReportFile().toAbsolutePath().getParent());
+		new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(config.getReportFile().toFile(), report);
+		log.info("Load test report written to {}", config.getReportFile().toAbsolutePath());
+
+		assertTrue(((Number) report.get("totalRequests")).longValue() > 0);
+	}
+
+	private List<Long> seedMembers(LoadTestConfig config) {
+		List<Member> members = new ArrayList<>();
+		for (int i = 0; i < config.getMembers(); i++) {
+			Member member = new Member();
+			member.setClubId(config.getClubId());
+			member.setName("Member " + i);
+			member.setEmail("member" + i + "@loadtest.example.com");
+			member.setPhone(String.format("709555%04d", i % 10000));
+			member.setStartDate(LocalDate.now());
+			member.setDurationMonths(12);
+			members.add(member);
+		}
+		return memberRepository.saveAll(members).stream().map(Member::getId).toList();
+	}
+
+	private List<Long> seedTournaments(LoadTestConfig config) {
+		List<Tournament> tournaments = new ArrayList<>();
+		for (int i = 0; i < config.getTournaments(); i++) {
+			Tournament tournament = new Tournament();
+			tournament.setClubId(config.getClubId());
+			tournament.setLocation("Course " + (i % 10));
+			tournament.setStartDate(LocalDate.now().plusDays(30 + i % 60));
+			tournament.setEndDate(tournament.getStartDate().plusDays(2));
+			tournament.setEntryFee(50);
+			tournament.setCashPrize(1000);
+			tournaments.add(tournament);
+		}
+		return tournamentRepository.saveAll(tournaments).stream().map(Tournament::getId).toList();
+	}
+}
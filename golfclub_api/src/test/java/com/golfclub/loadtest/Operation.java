@@ -0,0 +1,30 @@
+package com.golfclub.loadtest;
+
+// REST calls the load generator can issue //
+enum Operation {
+	MEMBER_SEARCH("member-search"),
+	TOURNAMENT_SEARCH("tournament-search"),
+	TOURNAMENT_GET("tournament-get"),
+	TOURNAMENT_MEMBERS("tournament-members"),
+	REGISTRATION("registration"),
+	PRIZE_POOL("prize-pool");
+
+	private final String key;
+
+	Operation(String key) {
+		this.key = key;
+	}
+
+	String getKey() {
+		return key;
+	}
+
+	static Operation fromKey(String key) {
+		for (Operation operation : values()) {
+			if (operation.key.equals(key)) {
+				return operation;
+			}
+		}
+		throw new IllegalArgumentException("Unknown load test operation: " + key);
+	}
+}
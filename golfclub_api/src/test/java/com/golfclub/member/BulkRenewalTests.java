@@ -0,0 +1,145 @@
+package com.golfclub.member;
+
+import com.golfclub.club.ClubContext;
+import com.golfclub.journal.JournalEntry;
+import com.golfclub.journal.JournalEntryType;
+import com.golfclub.journal.MembershipHistoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A small chunk size makes a handful of members span several UPDATE chunks //
+@SpringBootTest(properties = "golfclub.renewal.chunk-size=" + BulkRenewalTests.CHUNK_SIZE)
+class BulkRenewalTests {
+
+	static final int CHUNK_SIZE = 3;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private MembershipHistoryService membershipHistoryService;
+
+	@BeforeEach
+	void useTestClub() {
+		ClubContext.setClubId("renewal-club");
+	}
+
+	@AfterEach
+	void clearClub() {
+		ClubContext.clear();
+	}
+
+	@Test
+	void renewsMembersExpiringBeforeDateAndKeepsExpiryInSync() {
+		Member expiringSoon = memberService.createMember(member("soon@example.com", LocalDate.of(2025, 1, 31), 1));
+		Member expiringLater = memberService.createMember(member("later@example.com", LocalDate.now(), 24));
+
+		BulkRenewalRequest request = new BulkRenewalRequest();
+		request.setExpiringBefore(LocalDate.now());
+		request.setMonths(12);
+
+		assertEquals(1, memberService.renewMemberships(request).renewedCount());
+
+		Member renewed = memberRepository.findById(expiringSoon.getId()).orElseThrow();
+		assertEquals(13, renewed.getDurationMonths());
+		assertEquals(LocalDate.of(2025, 1, 31).plusMonths(13), renewed.getExpiryDate());
+		assertEquals(24, memberRepository.findById(expiringLater.getId()).orElseThrow().getDurationMonths());
+
+		List<JournalEntry> history = membershipHistoryService.getMemberHistory(expiringSoon.getId());
+		assertEquals(List.of(JournalEntryType.MEMBER_CREATED, JournalEntryType.MEMBER_RENEWED),
+				history.stream().map(JournalEntry::type).toList());
+		assertEquals(13, history.get(1).durationMonths());
+		assertEquals(List.of(JournalEntryType.MEMBER_CREATED), journaledTypes(expiringLater));
+	}
+
+	@Test
+	void renewsExplicitIdsOnlyWithinTheCurrentClub() {
+		Member member = memberService.createMember(member("ids@example.com", LocalDate.now(), 6));
+
+		ClubContext.setClubId("another-club");
+		Member otherClubMember = memberService.createMember(member("other@example.com", LocalDate.now(), 6));
+		ClubContext.setClubId("renewal-club");
+
+		BulkRenewalRequest request = new BulkRenewalRequest();
+		request.setIds(List.of(member.getId(), otherClubMember.getId()));
+		request.setMonths(3);
+
+		assertEquals(1, memberService.renewMemberships(request).renewedCount());
+		assertEquals(9, memberRepository.findById(member.getId()).orElseThrow().getDurationMonths());
+		assertEquals(6, memberRepository.findById(otherClubMember.getId()).orElseThrow().getDurationMonths());
+
+		assertEquals(List.of(JournalEntryType.MEMBER_CREATED, JournalEntryType.MEMBER_RENEWED), journaledTypes(member));
+		ClubContext.setClubId("another-club");
+		assertEquals(List.of(JournalEntryType.MEMBER_CREATED), journaledTypes(otherClubMember));
+	}
+
+	@Test
+	void expiringRenewalCrossesChunkBoundaries() {
+		for (int count : List.of(CHUNK_SIZE * 2 + 1, CHUNK_SIZE * 2)) {
+			ClubContext.setClubId("expiring-chunks-" + count);
+			List<Member> members = createMembers(count, LocalDate.of(2025, 1, 1));
+
+			BulkRenewalRequest request = new BulkRenewalRequest();
+			request.setExpiringBefore(LocalDate.now());
+			request.setMonths(12);
+
+			assertEquals(count, memberService.renewMemberships(request).renewedCount());
+			assertAllRenewed(members, 13);
+		}
+	}
+
+	@Test
+	void idRenewalCrossesChunkBoundaries() {
+		for (int count : List.of(CHUNK_SIZE * 2 + 1, CHUNK_SIZE * 2)) {
+			ClubContext.setClubId("id-chunks-" + count);
+			List<Member> members = createMembers(count, LocalDate.now());
+
+			BulkRenewalRequest request = new BulkRenewalRequest();
+			request.setIds(members.stream().map(Member::getId).toList());
+			request.setMonths(12);
+
+			assertEquals(count, memberService.renewMemberships(request).renewedCount());
+			assertAllRenewed(members, 13);
+		}
+	}
+
+	private List<Member> createMembers(int count, LocalDate startDate) {
+		List<Member> members = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			members.add(memberService.createMember(member(ClubContext.getClubId() + "-" + i + "@example.com", startDate, 1)));
+		}
+		return members;
+	}
+
+	private void assertAllRenewed(List<Member> members, int durationMonths) {
+		for (Member member : members) {
+			assertEquals(durationMonths, memberRepository.findById(member.getId()).orElseThrow().getDurationMonths());
+			assertEquals(List.of(JournalEntryType.MEMBER_CREATED, JournalEntryType.MEMBER_RENEWED), journaledTypes(member));
+		}
+	}
+
+	private List<JournalEntryType> journaledTypes(Member member) {
+		return membershipHistoryService.getMemberHistory(member.getId()).stream().map(JournalEntry::type).toList();
+	}
+
+	private Member member(String email, LocalDate startDate, int durationMonths) {
+		Member member = new Member();
+		member.setName("Renewal Member");
+		member.setEmail(email);
+		member.setStartDate(startDate);
+		member.setDurationMonths(durationMonths);
+		return member;
+	}
+}
@@ -0,0 +1,56 @@
+package com.golfclub.member;
+
+import com.golfclub.club.ClubContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MemberExpiryBackfillTests {
+
+	@Autowired
+	private MemberExpiryBackfill memberExpiryBackfill;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void useTestClub() {
+		ClubContext.setClubId("backfill-club");
+	}
+
+	@AfterEach
+	void clearClub() {
+		ClubContext.clear();
+	}
+
+	@Test
+	void legacyRowWithoutExpiryIsFoundAfterBackfill() {
+		// Written directly, the way rows from before the expiry_date column look //
+		jdbcTemplate.update("insert into member (club_id, name, email, start_date, duration_months) values (?, ?, ?, ?, ?)",
+				"backfill-club", "Legacy Member", "legacy@example.com", LocalDate.of(2020, 1, 1), 12);
+		jdbcTemplate.update("insert into member (club_id, name, email) values (?, ?, ?)",
+				"backfill-club", "No Dates", "nodates@example.com");
+		assertTrue(memberService.getExpiredMembers().isEmpty());
+
+		memberExpiryBackfill.run(null);
+		memberExpiryBackfill.run(null);
+
+		List<Member> expired = memberService.getExpiredMembers();
+		assertEquals(List.of("Legacy Member"), expired.stream().map(Member::getName).toList());
+		assertEquals(LocalDate.of(2021, 1, 1), expired.get(0).getExpiryDate());
+		assertNull(jdbcTemplate.queryForObject("select expiry_date from member where email = ?", LocalDate.class,
+				"nodates@example.com"));
+	}
+}
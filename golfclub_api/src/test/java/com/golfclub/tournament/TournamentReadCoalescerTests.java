@@ -0,0 +1,119 @@
+package com.golfclub.tournament;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentReadCoalescerTests {
+
+	private final TournamentReadCoalescer coalescer = new TournamentReadCoalescer();
+
+	@Test
+	void concurrentIdenticalReadsShareOneLoad() throws Exception {
+		AtomicInteger databaseLoads = new AtomicInteger();
+		CountDownLatch loadStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(20);
+
+		Future<String> leader = executor.submit(() -> coalescer.load("club", 1L, () -> {
+			databaseLoads.incrementAndGet();
+			loadStarted.countDown();
+			await(releaseLoad);
+			return "tournament";
+		}));
+		assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+		List<Future<String>> followers = new ArrayList<>();
+		for (int i = 0; i < 19; i++) {
+			followers.add(executor.submit(() -> coalescer.load("club", 1L, () -> {
+				databaseLoads.incrementAndGet();
+				return "tournament";
+			})));
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (coalescer.getStats("club").coalescedRequests() < 19 && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		releaseLoad.countDown();
+		assertEquals(19, coalescer.getStats("club").coalescedRequests());
+
+		assertEquals("tournament", leader.get(5, TimeUnit.SECONDS));
+		for (Future<String> follower : followers) {
+			assertEquals("tournament", follower.get(5, TimeUnit.SECONDS));
+		}
+		executor.shutdown();
+
+		assertEquals(1, databaseLoads.get());
+		assertEquals(1, coalescer.getStats("club").loads());
+		assertEquals(0, coalescer.getStats("club").inFlight());
+		assertEquals(new TournamentReadCoalescer.Stats(0, 0, 0, 0), coalescer.getStats("other-club"));
+	}
+
+	@Test
+	void readsAfterInvalidationStartAFreshLoad() throws Exception {
+		CountDownLatch loadStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		Future<String> staleLoad = executor.submit(() -> coalescer.load("club", 1L, () -> {
+			loadStarted.countDown();
+			await(releaseLoad);
+			return "before write";
+		}));
+		assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+		coalescer.invalidate("club", 1L);
+
+		assertEquals("after write", coalescer.load("club", 1L, () -> "after write"));
+		releaseLoad.countDown();
+		assertEquals("before write", staleLoad.get(5, TimeUnit.SECONDS));
+		executor.shutdown();
+		assertEquals(1, coalescer.getStats("club").invalidations());
+	}
+
+	@Test
+	void waitersAreReleasedWhenTheLoadFailsWithAnError() throws Exception {
+		CountDownLatch loadStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		Future<String> leader = executor.submit(() -> coalescer.load("club", 1L, () -> {
+			loadStarted.countDown();
+			await(releaseLoad);
+			throw new StackOverflowError("load failed");
+		}));
+		assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+		Future<String> follower = executor.submit(() -> coalescer.load("club", 1L, () -> "not loaded"));
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (coalescer.getStats("club").coalescedRequests() < 1 && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		releaseLoad.countDown();
+
+		ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(StackOverflowError.class, leaderFailure.getCause());
+		ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(StackOverflowError.class, followerFailure.getCause());
+		executor.shutdown();
+		assertEquals(0, coalescer.getStats("club").inFlight());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
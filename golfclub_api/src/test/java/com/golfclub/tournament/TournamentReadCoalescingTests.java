@@ -0,0 +1,149 @@
+package com.golfclub.tournament;
+
+import com.golfclub.club.ClubContext;
+import com.golfclub.member.BulkRenewalRequest;
+import com.golfclub.member.Member;
+import com.golfclub.member.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TournamentReadCoalescingTests {
+
+	@Autowired
+	private TournamentService tournamentService;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void useTestClub() {
+		ClubContext.setClubId("coalescing-club");
+	}
+
+	@AfterEach
+	void clearClub() {
+		ClubContext.clear();
+	}
+
+	@Test
+	void tournamentReadsGoThroughTheCoalescer() {
+		Tournament tournament = tournamentService.createTournament(tournament());
+		Member member = memberService.createMember(member());
+		tournamentService.addMemberToTournament(tournament.getId(), member.getId());
+		long loadsBefore = tournamentService.getReadCoalescingStats().loads();
+
+		TournamentDetails details = tournamentService.getTournamentById(tournament.getId()).orElseThrow();
+		List<TournamentDetails.Participant> participants = tournamentService.getTournamentParticipants(tournament.getId());
+		float prizePool = tournamentService.calculateTotalPrizePool(tournament.getId());
+
+		assertEquals(loadsBefore + 3, tournamentService.getReadCoalescingStats().loads());
+		assertEquals(List.of(member.getId()), details.participants().stream().map(TournamentDetails.Participant::id).toList());
+		assertEquals(details.participants(), participants);
+		assertEquals(550f, prizePool);
+		assertThrows(UnsupportedOperationException.class, () -> participants.add(participants.get(0)));
+	}
+
+	@Test
+	void writesInvalidateOnlyAfterCommit() {
+		Tournament tournament = tournamentService.createTournament(tournament());
+		Member member = memberService.createMember(member());
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		long beforeUpdate = invalidations();
+		transaction.executeWithoutResult(status -> {
+			Tournament update = tournament();
+			update.setLocation("Updated Links");
+			tournamentService.updateTournament(tournament.getId(), update);
+			assertEquals(beforeUpdate, invalidations());
+		});
+		assertEquals(beforeUpdate + 1, invalidations());
+
+		long beforeAdd = invalidations();
+		transaction.executeWithoutResult(status -> {
+			tournamentService.addMemberToTournament(tournament.getId(), member.getId());
+			assertEquals(beforeAdd, invalidations());
+		});
+		assertEquals(beforeAdd + 1, invalidations());
+
+		long beforeRollback = invalidations();
+		transaction.executeWithoutResult(status -> {
+			tournamentService.removeMemberFromTournament(tournament.getId(), member.getId());
+			status.setRollbackOnly();
+		});
+		assertEquals(beforeRollback, invalidations());
+
+		assertEquals("Updated Links", tournamentService.getTournamentById(tournament.getId()).orElseThrow().location());
+		assertEquals(1, tournamentService.getTournamentParticipants(tournament.getId()).size());
+	}
+
+	@Test
+	void memberWritesInvalidateTheirTournamentsAfterCommit() {
+		Tournament tournament = tournamentService.createTournament(tournament());
+		Member registered = memberService.createMember(member());
+		Member unregistered = memberService.createMember(member());
+		tournamentService.addMemberToTournament(tournament.getId(), registered.getId());
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		long beforeUpdate = invalidations();
+		transaction.executeWithoutResult(status -> {
+			registered.setName("Renamed Member");
+			memberService.updateMember(registered.getId(), registered);
+			assertEquals(beforeUpdate, invalidations());
+		});
+		assertEquals(beforeUpdate + 1, invalidations());
+		assertEquals("Renamed Member", tournamentService.getTournamentParticipants(tournament.getId()).get(0).name());
+
+		long beforeRenewal = invalidations();
+		memberService.renewMembership(registered.getId(), 6);
+		assertEquals(beforeRenewal + 1, invalidations());
+
+		long beforeBulkRenewal = invalidations();
+		BulkRenewalRequest request = new BulkRenewalRequest();
+		request.setIds(List.of(registered.getId(), unregistered.getId()));
+		request.setMonths(6);
+		memberService.renewMemberships(request);
+		assertEquals(beforeBulkRenewal + 1, invalidations());
+		assertEquals(24, tournamentService.getTournamentParticipants(tournament.getId()).get(0).durationMonths());
+
+		long beforeUnregistered = invalidations();
+		memberService.renewMembership(unregistered.getId(), 6);
+		assertEquals(beforeUnregistered, invalidations());
+	}
+
+	private long invalidations() {
+		return tournamentService.getReadCoalescingStats().invalidations();
+	}
+
+	private Tournament tournament() {
+		Tournament tournament = new Tournament();
+		tournament.setStartDate(LocalDate.now().plusDays(7));
+		tournament.setEndDate(LocalDate.now().plusDays(8));
+		tournament.setLocation("Coalescing Links");
+		tournament.setEntryFee(50);
+		tournament.setCashPrize(500);
+		return tournament;
+	}
+
+	private Member member() {
+		Member member = new Member();
+		member.setName("Coalescing Member");
+		member.setEmail("coalescing" + System.nanoTime() + "@example.com");
+		member.setStartDate(LocalDate.now());
+		member.setDurationMonths(12);
+		return member;
+	}
+}